@@ -0,0 +1,68 @@
+package gatheres;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Generic {@code List}-per-run grouping against the primitive run-length descriptors
+ * on long telemetry-like streams of ints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConsecutiveDuplicatesBenchmark {
+
+    @Param({"10000000"})
+    int size;
+
+    @Param({"1", "8", "64"})
+    int averageRunLength;
+
+    List<Integer> telemetry;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        int[] values = new int[size];
+        int value = 0;
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(averageRunLength) == 0) {
+                value = random.nextInt(-10_000, 10_000);
+            }
+            values[i] = value;
+        }
+        telemetry = IntStream.of(values).boxed().toList();
+    }
+
+    @Benchmark
+    public void genericConsecutiveDuplicates(Blackhole blackhole) {
+        telemetry.stream()
+                .gather(GathererGroupingDuplicates.consecutiveDuplicates())
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void primitiveIntRuns(Blackhole blackhole) {
+        telemetry.stream()
+                .gather(GathererPrimitiveRuns.intRuns())
+                .forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,77 @@
+package gatheres;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Gatherer;
+import java.util.stream.Gatherers;
+import java.util.stream.IntStream;
+
+/**
+ * scan -> filter -> map -> windowFixed as an {@code andThen} chain of gatherers against the same steps
+ * run by {@link GathererFusion}, with copied windows like {@code Gatherers.windowFixed} and with reused views.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FusionBenchmark {
+
+    @Param({"1000000"})
+    int size;
+
+    List<Integer> numbers;
+    Gatherer<Integer, ?, List<Long>> chained;
+    Gatherer<Integer, ?, List<Long>> fused;
+    Gatherer<Integer, ?, List<Long>> fusedViews;
+
+    @Setup
+    public void setUp() {
+        numbers = IntStream.range(0, size).boxed().toList();
+        chained = Gatherers.<Integer, Long>scan(() -> 0L, (sum, i) -> sum + i)
+                .andThen(Gatherer.<Long, Long>ofSequential((_, sum, downstream) -> sum % 3 != 0 || downstream.push(sum)))
+                .andThen(Gatherer.<Long, Long>ofSequential((_, sum, downstream) -> downstream.push(sum * 2)))
+                .andThen(Gatherers.windowFixed(4));
+        fused = GathererFusion.<Integer>chain()
+                .scan(() -> 0L, (sum, i) -> sum + i)
+                .filter(sum -> sum % 3 == 0)
+                .map(sum -> sum * 2)
+                .windowFixed(4, true)
+                .toGatherer();
+        fusedViews = GathererFusion.<Integer>chain()
+                .scan(() -> 0L, (sum, i) -> sum + i)
+                .filter(sum -> sum % 3 == 0)
+                .map(sum -> sum * 2)
+                .windowFixed(4)
+                .toGatherer();
+    }
+
+    @Benchmark
+    public void andThenChain(Blackhole blackhole) {
+        numbers.stream().gather(chained).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void fusedChain(Blackhole blackhole) {
+        numbers.stream().gather(fused).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void fusedChainViews(Blackhole blackhole) {
+        numbers.stream().gather(fusedViews).forEach(blackhole::consume);
+    }
+}
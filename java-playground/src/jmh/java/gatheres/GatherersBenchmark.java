@@ -0,0 +1,193 @@
+package gatheres;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Gatherers;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The practice gatherers against the {@link Gatherers} built-ins solving the same task,
+ * with a plain {@code int[]} loop as the primitive baseline.
+ * <p>
+ * Run with {@code ./gradlew jmh}; results are written as JSON to {@code build/results/jmh/results.json}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GatherersBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean parallel;
+
+    int[] primitives;
+    List<Integer> boxed;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        primitives = IntStream.range(0, size)
+                .map(_ -> random.nextInt(64))
+                .toArray();
+        boxed = IntStream.of(primitives).boxed().toList();
+    }
+
+    private Stream<Integer> numbers() {
+        return parallel ? boxed.parallelStream() : boxed.stream();
+    }
+
+    private IntStream primitiveNumbers() {
+        var stream = IntStream.of(primitives);
+        return parallel ? stream.parallel() : stream;
+    }
+
+    // --- sliding-window average ---
+
+    @Benchmark
+    public void slidingWindowAverage_manual(Blackhole blackhole) {
+        numbers().gather(PracticeGatherers.slidingWindowAverage(3)).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void slidingWindowAverage_windowSliding(Blackhole blackhole) {
+        numbers().gather(Gatherers.windowSliding(3))
+                .map(window -> window.stream().mapToInt(i -> i).average().orElseThrow())
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void slidingWindowAverage_windowViews(Blackhole blackhole) {
+        numbers().gather(GathererWindowViews.<Integer>sliding(3))
+                .map(window -> window.stream().mapToInt(i -> i).average().orElseThrow())
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void slidingWindowAverage_ringBuffer(Blackhole blackhole) {
+        numbers().gather(GathererSlidingWindows.average(3)).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void slidingWindowAverage_primitive(Blackhole blackhole) {
+        int[] values = primitives;
+        IntStream indices = IntStream.range(0, values.length - 2);
+        (parallel ? indices.parallel() : indices)
+                .mapToDouble(i -> (values[i] + values[i + 1] + values[i + 2]) / 3.0)
+                .forEach(blackhole::consume);
+    }
+
+    // --- distinct pairs ---
+
+    @Benchmark
+    public void distinctPairs_manual(Blackhole blackhole) {
+        numbers().gather(PracticeGatherers.distinctPairs()).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void distinctPairs_windowFixed(Blackhole blackhole) {
+        numbers().gather(Gatherers.windowFixed(2))
+                .filter(pair -> pair.size() == 2)
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void distinctPairs_windowViews(Blackhole blackhole) {
+        numbers().gather(GathererWindowViews.<Integer>fixed(2))
+                .filter(pair -> pair.size() == 2)
+                .forEach(blackhole::consume);
+    }
+
+    // --- skip / take ---
+
+    @Benchmark
+    public void skipTake_manual(Blackhole blackhole) {
+        numbers().gather(PracticeGatherers.skipTake(1, 2)).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void skipTake_windowFixed(Blackhole blackhole) {
+        numbers().gather(Gatherers.windowFixed(3))
+                .flatMap(window -> window.stream().skip(1))
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void skipTake_primitive(Blackhole blackhole) {
+        int[] values = primitives;
+        IntStream indices = IntStream.range(0, values.length);
+        (parallel ? indices.parallel() : indices)
+                .filter(i -> i % 3 != 0)
+                .map(i -> values[i])
+                .forEach(blackhole::consume);
+    }
+
+    // --- deduplication ---
+
+    @Benchmark
+    public void deduplication_manual(Blackhole blackhole) {
+        numbers().gather(PracticeGatherers.deduplication()).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void deduplication_fold(Blackhole blackhole) {
+        numbers().gather(Gatherers.fold(HashSet<Integer>::new, (set, num) -> {
+                    set.add(num);
+                    return set;
+                }))
+                .flatMap(HashSet::stream)
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void deduplication_primitive(Blackhole blackhole) {
+        primitiveNumbers().distinct().forEach(blackhole::consume);
+    }
+
+    // --- running sum ---
+
+    @Benchmark
+    public void runningSum_manual(Blackhole blackhole) {
+        numbers().gather(PracticeGatherers.runningSum()).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void runningSum_scan(Blackhole blackhole) {
+        numbers().gather(Gatherers.scan(() -> 0, Integer::sum)).forEach(blackhole::consume);
+    }
+
+    // --- consecutive duplicates ---
+
+    @Benchmark
+    public void consecutiveDuplicates_generic(Blackhole blackhole) {
+        var gatherer = parallel
+                ? GathererGroupingDuplicates.<Integer>parallelConsecutiveDuplicates()
+                : GathererGroupingDuplicates.<Integer>consecutiveDuplicates();
+        numbers().gather(gatherer).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void consecutiveDuplicates_primitiveRuns(Blackhole blackhole) {
+        numbers().gather(GathererPrimitiveRuns.intRuns()).forEach(blackhole::consume);
+    }
+}
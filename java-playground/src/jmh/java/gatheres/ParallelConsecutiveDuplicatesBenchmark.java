@@ -0,0 +1,74 @@
+package gatheres;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Scaling of {@link GathererGroupingDuplicates#parallelConsecutiveDuplicates()} with the pool size,
+ * with the sequential {@link GathererGroupingDuplicates#consecutiveDuplicates()} as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelConsecutiveDuplicatesBenchmark {
+
+    @Param({"10000000"})
+    int size;
+
+    @Param({"1", "4", "8", "16", "32"})
+    int parallelism;
+
+    List<Integer> telemetry;
+    ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        telemetry = IntStream.range(0, size)
+                .map(_ -> random.nextInt(4))
+                .boxed()
+                .toList();
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long sequential() {
+        return telemetry.stream()
+                .gather(GathererGroupingDuplicates.consecutiveDuplicates())
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    @Benchmark
+    public long parallel() {
+        return pool.submit(() -> telemetry.parallelStream()
+                        .gather(GathererGroupingDuplicates.parallelConsecutiveDuplicates())
+                        .mapToInt(List::size)
+                        .sum())
+                .join();
+    }
+}
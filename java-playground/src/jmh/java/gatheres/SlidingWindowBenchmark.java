@@ -0,0 +1,80 @@
+package gatheres;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Gatherers;
+import java.util.stream.IntStream;
+
+/**
+ * Moving average and maximum over large windows: a copied list per window against the ring buffer
+ * and monotonic deque of {@link GathererSlidingWindows}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlidingWindowBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"10", "1000", "10000"})
+    int windowSize;
+
+    List<Integer> numbers;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        numbers = IntStream.range(0, size)
+                .map(_ -> random.nextInt(1_000))
+                .boxed()
+                .toList();
+    }
+
+    @Benchmark
+    public void average_windowSliding(Blackhole blackhole) {
+        numbers.stream()
+                .gather(Gatherers.windowSliding(windowSize))
+                .map(window -> window.stream().mapToInt(i -> i).average().orElseThrow())
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void average_ringBuffer(Blackhole blackhole) {
+        numbers.stream()
+                .gather(GathererSlidingWindows.average(windowSize))
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void max_windowSliding(Blackhole blackhole) {
+        numbers.stream()
+                .gather(Gatherers.windowSliding(windowSize))
+                .map(window -> window.stream().mapToInt(i -> i).max().orElseThrow())
+                .forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void max_monotonicDeque(Blackhole blackhole) {
+        numbers.stream()
+                .gather(GathererSlidingWindows.max(windowSize))
+                .forEach(blackhole::consume);
+    }
+}
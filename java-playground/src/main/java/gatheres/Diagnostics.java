@@ -0,0 +1,30 @@
+package gatheres;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Diagnostic logging for the gatherers, off unless the JVM runs with {@code -Dgatheres.diagnostics=true}.
+ * <p>
+ * Call sites guard on {@link #ENABLED} before building the message:
+ * <pre>{@code if (Diagnostics.ENABLED) Diagnostics.log("element = " + element);}</pre>
+ * {@code ENABLED} is a {@code static final} field, so once the class is initialized the JIT treats it as a
+ * constant and removes the whole branch, message concatenation included, when diagnostics are off.
+ */
+public final class Diagnostics {
+
+    public static final boolean ENABLED = Boolean.getBoolean("gatheres.diagnostics");
+
+    private static volatile Consumer<String> sink = System.out::println;
+
+    private Diagnostics() {
+    }
+
+    public static void sink(Consumer<String> sink) {
+        Diagnostics.sink = Objects.requireNonNull(sink, "'sink' must not be null");
+    }
+
+    public static void log(String message) {
+        sink.accept(message);
+    }
+}
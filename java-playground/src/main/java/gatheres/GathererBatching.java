@@ -0,0 +1,160 @@
+package gatheres;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import java.util.stream.Gatherer;
+import java.util.stream.Stream;
+
+/**
+ * Groups elements into batches closed by whichever configured limit is reached first:
+ * <ul>
+ *     <li><b>maxCount</b> - number of elements in the batch</li>
+ *     <li><b>maxWeight</b> - cumulative weight of the batch; an element that would overflow it starts the
+ *     next batch, and an element heavier than the limit forms a batch on its own</li>
+ *     <li><b>maxAge</b> - time since the first element of the batch arrived, read from an injectable
+ *     {@link InstantSource}; as gatherers are only driven by incoming elements, an aged batch is closed
+ *     when the next element arrives (or when the stream ends)</li>
+ * </ul>
+ * The same buffer is reused for every batch. Like {@link GathererWindowViews}, a batch is a read-only
+ * view valid until the downstream {@code push} returns, unless materialized copies are asked for.
+ */
+public class GathererBatching {
+    static void main() {
+        Stream.of("a", "bb", "ccc", "dddd", "e", "f")
+                .gather(GathererBatching.<String>batches()
+                        .maxCount(3)
+                        .maxWeight(5, String::length)
+                        .materialize(true)
+                        .build())
+                .forEach(System.out::println);
+
+        // Output:
+        // [a, bb]
+        // [ccc]
+        // [dddd, e]
+        // [f]
+    }
+
+    public static <T> Builder<T> batches() {
+        return new Builder<>();
+    }
+
+    public static final class Builder<T> {
+        private int maxCount = Integer.MAX_VALUE;
+        private long maxWeight = Long.MAX_VALUE;
+        private ToLongFunction<? super T> weigher;
+        private Duration maxAge;
+        private InstantSource clock;
+        private boolean materialize;
+
+        private Builder() {
+        }
+
+        public Builder<T> maxCount(int maxCount) {
+            if (maxCount < 1) {
+                throw new IllegalArgumentException("'maxCount' must be greater than zero");
+            }
+            this.maxCount = maxCount;
+            return this;
+        }
+
+        public Builder<T> maxWeight(long maxWeight, ToLongFunction<? super T> weigher) {
+            if (maxWeight < 1) {
+                throw new IllegalArgumentException("'maxWeight' must be greater than zero");
+            }
+            this.maxWeight = maxWeight;
+            this.weigher = Objects.requireNonNull(weigher, "'weigher' must not be null");
+            return this;
+        }
+
+        public Builder<T> maxAge(Duration maxAge) {
+            return maxAge(maxAge, InstantSource.system());
+        }
+
+        public Builder<T> maxAge(Duration maxAge, InstantSource clock) {
+            if (maxAge.isNegative() || maxAge.isZero()) {
+                throw new IllegalArgumentException("'maxAge' must be positive");
+            }
+            this.maxAge = maxAge;
+            this.clock = Objects.requireNonNull(clock, "'clock' must not be null");
+            return this;
+        }
+
+        public Builder<T> materialize(boolean materialize) {
+            this.materialize = materialize;
+            return this;
+        }
+
+        public Gatherer<T, ?, List<T>> build() {
+            if (maxCount == Integer.MAX_VALUE && weigher == null && maxAge == null) {
+                throw new IllegalStateException("At least one of maxCount, maxWeight or maxAge must be set");
+            }
+            var limits = new Limits<T>(maxCount, maxWeight, weigher, maxAge, clock, materialize);
+            return Gatherer.ofSequential(
+                    () -> new Batch<>(limits),
+                    Gatherer.Integrator.<Batch<T>, T, List<T>>of(Batch::integrate),
+                    (batch, downstream) -> {
+                        if (!batch.elements.isEmpty()) batch.flush(downstream);
+                    });
+        }
+    }
+
+    private record Limits<T>(int maxCount,
+                             long maxWeight,
+                             ToLongFunction<? super T> weigher,
+                             Duration maxAge,
+                             InstantSource clock,
+                             boolean materialize) {
+    }
+
+    private static final class Batch<T> {
+        final Limits<T> limits;
+        final List<T> elements;
+        final List<T> view;
+        long weight;
+        Instant closesAt;
+
+        Batch(Limits<T> limits) {
+            this.limits = limits;
+            this.elements = limits.maxCount() == Integer.MAX_VALUE ? new ArrayList<>() : new ArrayList<>(limits.maxCount());
+            this.view = Collections.unmodifiableList(elements);
+        }
+
+        boolean integrate(T element, Gatherer.Downstream<? super List<T>> downstream) {
+            Instant now = limits.clock() == null ? null : limits.clock().instant();
+            long elementWeight = limits.weigher() == null ? 0 : limits.weigher().applyAsLong(element);
+
+            if (!elements.isEmpty()) {
+                boolean aged = now != null && !now.isBefore(closesAt);
+                boolean overweight = weight + elementWeight > limits.maxWeight();
+                if ((aged || overweight) && !flush(downstream)) {
+                    return false;
+                }
+            }
+
+            if (elements.isEmpty() && now != null) {
+                closesAt = now.plus(limits.maxAge());
+            }
+            elements.add(element);
+            weight += elementWeight;
+
+            if (elements.size() >= limits.maxCount() || weight >= limits.maxWeight()) {
+                return flush(downstream);
+            }
+            return true;
+        }
+
+        boolean flush(Gatherer.Downstream<? super List<T>> downstream) {
+            boolean accepting = downstream.push(limits.materialize() ? Collections.unmodifiableList(new ArrayList<>(elements)) : view);
+            elements.clear();
+            weight = 0;
+            return accepting;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package gatheres;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Gatherer;
+import java.util.stream.Stream;
+
+/**
+ * A more configurable {@code Gatherers.mapConcurrent}: every element is mapped on its own virtual thread.
+ * <ul>
+ *     <li><b>ordered / unordered</b> - ordered output keeps encounter order, unordered output emits results
+ *     as they complete, so one slow element does not hold back the others</li>
+ *     <li><b>maxInFlight</b> - at most that many elements are being mapped at once; the upstream is blocked
+ *     until a slot frees up</li>
+ *     <li><b>keyedBy</b> - elements with the same (non-null) key are mapped one after another, in encounter order</li>
+ *     <li><b>timeout</b> - a mapping running longer than that is interrupted and fails with a {@link TimeoutException}</li>
+ * </ul>
+ * The first failed mapping cancels the remaining ones and is rethrown from the stream: unchecked exceptions as they
+ * are, checked ones (including the timeout) wrapped in a {@link CompletionException}.
+ */
+public class GathererConcurrentMapping {
+    static void main() {
+        Stream.of("a", "bb", "ccc", "dd", "e")
+                .gather(GathererConcurrentMapping.<String, String>mapConcurrent(String::toUpperCase)
+                        .maxInFlight(2)
+                        .keyedBy(String::length)
+                        .timeout(Duration.ofSeconds(1))
+                        .build())
+                .forEach(System.out::println);
+
+        // Output:
+        // A
+        // BB
+        // CCC
+        // DD
+        // E
+    }
+
+    public static <T, R> Builder<T, R> mapConcurrent(Function<? super T, ? extends R> mapper) {
+        return new Builder<>(mapper);
+    }
+
+    public static final class Builder<T, R> {
+        private final Function<? super T, ? extends R> mapper;
+        private int maxInFlight = 16;
+        private boolean ordered = true;
+        private Function<? super T, ?> keyExtractor;
+        private Duration timeout;
+
+        private Builder(Function<? super T, ? extends R> mapper) {
+            this.mapper = Objects.requireNonNull(mapper, "'mapper' must not be null");
+        }
+
+        public Builder<T, R> maxInFlight(int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("'maxInFlight' must be greater than zero");
+            }
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder<T, R> ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        public Builder<T, R> keyedBy(Function<? super T, ?> keyExtractor) {
+            this.keyExtractor = Objects.requireNonNull(keyExtractor, "'keyExtractor' must not be null");
+            return this;
+        }
+
+        public Builder<T, R> timeout(Duration timeout) {
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("'timeout' must be positive");
+            }
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Gatherer<T, ?, R> build() {
+            var settings = new Settings<T, R>(mapper, maxInFlight, ordered, keyExtractor, timeout);
+            return Gatherer.ofSequential(
+                    () -> new MappingState<>(settings),
+                    Gatherer.Integrator.<MappingState<T, R>, T, R>of(MappingState::integrate),
+                    MappingState::finish);
+        }
+    }
+
+    private record Settings<T, R>(Function<? super T, ? extends R> mapper,
+                                  int maxInFlight,
+                                  boolean ordered,
+                                  Function<? super T, ?> keyExtractor,
+                                  Duration timeout) {
+    }
+
+    /**
+     * {@code result} can complete (timeout, cancellation) while the mapper is still running, as interrupting it is
+     * only a request; {@code finished} completes once the worker is really done, which is what the next task with
+     * the same key waits for.
+     */
+    private static final class Task<R> {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final CompletableFuture<Void> finished = new CompletableFuture<>();
+        volatile Thread worker;
+
+        void cancel() {
+            result.cancel(false);
+            Thread thread = worker;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Only the stream thread touches the state, apart from {@code lastByKey} and {@code completed},
+     * which the workers update when they finish.
+     */
+    private static final class MappingState<T, R> {
+        final Settings<T, R> settings;
+        final Deque<Task<R>> submitted = new ArrayDeque<>();
+        final Set<Task<R>> running = new HashSet<>();
+        final BlockingQueue<Task<R>> completed = new LinkedBlockingQueue<>();
+        final Map<Object, CompletableFuture<Void>> lastByKey = new ConcurrentHashMap<>();
+
+        MappingState(Settings<T, R> settings) {
+            this.settings = settings;
+        }
+
+        boolean integrate(T element, Gatherer.Downstream<? super R> downstream) {
+            if (!pushCompleted(downstream)) {
+                return false;
+            }
+            while (inFlight() >= settings.maxInFlight()) {
+                if (!pushNext(downstream)) {
+                    return false;
+                }
+            }
+            submit(element);
+            return pushCompleted(downstream);
+        }
+
+        void finish(Gatherer.Downstream<? super R> downstream) {
+            while (inFlight() > 0) {
+                if (!pushNext(downstream)) {
+                    return;
+                }
+            }
+        }
+
+        private int inFlight() {
+            return settings.ordered() ? submitted.size() : running.size();
+        }
+
+        private void submit(T element) {
+            var task = new Task<R>();
+            Object key = settings.keyExtractor() == null ? null : settings.keyExtractor().apply(element);
+            CompletableFuture<Void> predecessor = key == null ? null : lastByKey.put(key, task.finished);
+
+            if (settings.ordered()) {
+                submitted.add(task);
+            } else {
+                running.add(task);
+                task.result.whenComplete((_, _) -> completed.add(task));
+            }
+
+            task.worker = Thread.ofVirtual().unstarted(() -> {
+                try {
+                    if (predecessor != null) {
+                        predecessor.get();
+                    }
+                    if (task.result.isDone()) {
+                        return;
+                    }
+                    if (settings.timeout() != null) {
+                        Thread worker = Thread.currentThread();
+                        task.result.orTimeout(settings.timeout().toNanos(), TimeUnit.NANOSECONDS)
+                                .whenComplete((_, failure) -> {
+                                    if (failure instanceof TimeoutException) worker.interrupt();
+                                });
+                    }
+                    task.result.complete(settings.mapper().apply(element));
+                } catch (Throwable failure) {
+                    task.result.completeExceptionally(failure);
+                } finally {
+                    if (key != null) {
+                        lastByKey.remove(key, task.finished);
+                    }
+                    task.finished.complete(null);
+                }
+            });
+            task.worker.start();
+        }
+
+        /**
+         * Pushes whatever is already done without blocking.
+         */
+        private boolean pushCompleted(Gatherer.Downstream<? super R> downstream) {
+            if (settings.ordered()) {
+                while (!submitted.isEmpty() && submitted.peekFirst().result.isDone()) {
+                    if (!push(submitted.pollFirst(), downstream)) return false;
+                }
+            } else {
+                Task<R> task;
+                while ((task = completed.poll()) != null) {
+                    running.remove(task);
+                    if (!push(task, downstream)) return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Blocks until the next result is available and pushes it.
+         */
+        private boolean pushNext(Gatherer.Downstream<? super R> downstream) {
+            Task<R> task;
+            if (settings.ordered()) {
+                task = submitted.pollFirst();
+            } else {
+                try {
+                    task = completed.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelAll();
+                    throw new CancellationException("Interrupted while waiting for a mapping to complete");
+                }
+                running.remove(task);
+            }
+            return push(task, downstream);
+        }
+
+        private boolean push(Task<R> task, Gatherer.Downstream<? super R> downstream) {
+            R result;
+            try {
+                result = task.result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new CancellationException("Interrupted while waiting for a mapping to complete");
+            } catch (ExecutionException e) {
+                cancelAll();
+                throw propagate(e.getCause());
+            }
+            if (downstream.push(result)) {
+                return true;
+            }
+            cancelAll();
+            return false;
+        }
+
+        private void cancelAll() {
+            List<Task<R>> tasks = new ArrayList<>(submitted);
+            tasks.addAll(running);
+            submitted.clear();
+            running.clear();
+            tasks.forEach(Task::cancel);
+        }
+
+        private static RuntimeException propagate(Throwable failure) {
+            if (failure instanceof RuntimeException runtimeException) return runtimeException;
+            if (failure instanceof Error error) throw error;
+            return new CompletionException(failure);
+        }
+    }
+}
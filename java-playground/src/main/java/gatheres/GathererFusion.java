@@ -0,0 +1,266 @@
+package gatheres;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Gatherer;
+import java.util.stream.Stream;
+
+/**
+ * A small DSL for chains of scan / fold / window / map / filter steps, run as a single gatherer.
+ * <p>
+ * {@code a.andThen(b).andThen(c)} wraps every stage in its own gatherer, {@code Downstream} and integrator
+ * lambda. Here the chain is a linked list of sinks created by one initializer and only the last step pushes
+ * to the real downstream. This is not fusion of existing gatherers: each step is still a sink object with its
+ * own state, and {@code next.accept} is a virtual call whose site is shared by every chain using that step, so
+ * it only stays inlinable while few chain shapes are in use. Fixed windows are views over one buffer that is
+ * reused for every window, as in {@link GathererWindowViews}.
+ */
+public class GathererFusion {
+    static void main() {
+        var result = Stream.of(1, 2, 3, 4)
+                .map(Object::toString)
+                .gather(GathererFusion.<String>chain()
+                        .scan(() -> "{", (string, element) -> string + element)
+                        .map(string -> string + "}")
+                        .filter(string -> string.length() <= 4)
+                        .toGatherer())
+                .toList();
+        System.out.println("result = " + result);
+
+        // Output:
+        // result = [{1}, {12}]
+    }
+
+    public static <T> Chain<T, T> chain() {
+        return new Chain<>(List.of());
+    }
+
+    /**
+     * Immutable description of the steps; {@link #toGatherer()} can be called any number of times.
+     */
+    public static final class Chain<T, R> {
+        private final List<Function<Sink, Sink>> steps;
+
+        private Chain(List<Function<Sink, Sink>> steps) {
+            this.steps = steps;
+        }
+
+        public <U> Chain<T, U> map(Function<? super R, ? extends U> mapper) {
+            Objects.requireNonNull(mapper, "'mapper' must not be null");
+            return then(next -> new MapSink<>(next, mapper));
+        }
+
+        public Chain<T, R> filter(Predicate<? super R> predicate) {
+            Objects.requireNonNull(predicate, "'predicate' must not be null");
+            return then(next -> new FilterSink<>(next, predicate));
+        }
+
+        public <U> Chain<T, U> scan(Supplier<U> initial, BiFunction<? super U, ? super R, ? extends U> scanner) {
+            Objects.requireNonNull(initial, "'initial' must not be null");
+            Objects.requireNonNull(scanner, "'scanner' must not be null");
+            return then(next -> new ScanSink<>(next, initial.get(), scanner));
+        }
+
+        public <U> Chain<T, U> fold(Supplier<U> initial, BiFunction<? super U, ? super R, ? extends U> folder) {
+            Objects.requireNonNull(initial, "'initial' must not be null");
+            Objects.requireNonNull(folder, "'folder' must not be null");
+            return then(next -> new FoldSink<>(next, initial.get(), folder));
+        }
+
+        public Chain<T, List<R>> windowFixed(int windowSize) {
+            return windowFixed(windowSize, false);
+        }
+
+        /**
+         * Same contract as {@link GathererWindowViews#fixed(int, boolean)}: unless {@code materialize} is set, a
+         * window is only valid until the next step returns.
+         */
+        public Chain<T, List<R>> windowFixed(int windowSize, boolean materialize) {
+            if (windowSize < 1) {
+                throw new IllegalArgumentException("'windowSize' must be greater than zero");
+            }
+            return then(next -> new WindowFixedSink<R>(next, windowSize, materialize));
+        }
+
+        public Gatherer<T, ?, R> toGatherer() {
+            List<Function<Sink, Sink>> reversed = new ArrayList<>(steps);
+            Collections.reverse(reversed);
+
+            Supplier<FusedState> initializer = () -> {
+                var tail = new DownstreamSink();
+                Sink head = tail;
+                for (var step : reversed) {
+                    head = step.apply(head);
+                }
+                return new FusedState(head, tail);
+            };
+
+            return Gatherer.<T, FusedState, R>ofSequential(
+                    initializer,
+                    (state, element, downstream) -> {
+                        state.tail.bind(downstream);
+                        return state.head.accept(element);
+                    },
+                    (state, downstream) -> {
+                        state.tail.bind(downstream);
+                        state.head.end();
+                    });
+        }
+
+        private <U> Chain<T, U> then(Function<Sink, Sink> step) {
+            var next = new ArrayList<>(steps);
+            next.add(step);
+            return new Chain<>(List.copyOf(next));
+        }
+    }
+
+    private record FusedState(Sink head, DownstreamSink tail) {
+    }
+
+    /**
+     * One step of a fused chain. {@code accept} returns {@code false} only when no more elements are wanted;
+     * {@code end} flushes what the step still holds once the input is exhausted.
+     */
+    private abstract static class Sink {
+        final Sink next;
+
+        Sink(Sink next) {
+            this.next = next;
+        }
+
+        abstract boolean accept(Object element);
+
+        boolean end() {
+            return next.end();
+        }
+    }
+
+    private static final class DownstreamSink extends Sink {
+        Gatherer.Downstream<Object> downstream;
+
+        DownstreamSink() {
+            super(null);
+        }
+
+        @SuppressWarnings("unchecked")
+        void bind(Gatherer.Downstream<?> downstream) {
+            this.downstream = (Gatherer.Downstream<Object>) downstream;
+        }
+
+        @Override
+        boolean accept(Object element) {
+            return downstream.push(element);
+        }
+
+        @Override
+        boolean end() {
+            return true;
+        }
+    }
+
+    private static final class MapSink<R, U> extends Sink {
+        final Function<? super R, ? extends U> mapper;
+
+        MapSink(Sink next, Function<? super R, ? extends U> mapper) {
+            super(next);
+            this.mapper = mapper;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean accept(Object element) {
+            return next.accept(mapper.apply((R) element));
+        }
+    }
+
+    private static final class FilterSink<R> extends Sink {
+        final Predicate<? super R> predicate;
+
+        FilterSink(Sink next, Predicate<? super R> predicate) {
+            super(next);
+            this.predicate = predicate;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean accept(Object element) {
+            return !predicate.test((R) element) || next.accept(element);
+        }
+    }
+
+    private static final class ScanSink<R, U> extends Sink {
+        final BiFunction<? super U, ? super R, ? extends U> scanner;
+        U value;
+
+        ScanSink(Sink next, U initial, BiFunction<? super U, ? super R, ? extends U> scanner) {
+            super(next);
+            this.value = initial;
+            this.scanner = scanner;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean accept(Object element) {
+            value = scanner.apply(value, (R) element);
+            return next.accept(value);
+        }
+    }
+
+    private static final class FoldSink<R, U> extends Sink {
+        final BiFunction<? super U, ? super R, ? extends U> folder;
+        U value;
+
+        FoldSink(Sink next, U initial, BiFunction<? super U, ? super R, ? extends U> folder) {
+            super(next);
+            this.value = initial;
+            this.folder = folder;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean accept(Object element) {
+            value = folder.apply(value, (R) element);
+            return true;
+        }
+
+        @Override
+        boolean end() {
+            return next.accept(value) && next.end();
+        }
+    }
+
+    private static final class WindowFixedSink<R> extends Sink {
+        final GathererWindowViews.WindowView<R> view;
+        final int windowSize;
+        final boolean materialize;
+        int filled;
+
+        WindowFixedSink(Sink next, int windowSize, boolean materialize) {
+            super(next);
+            this.view = new GathererWindowViews.WindowView<>(new Object[windowSize]);
+            this.windowSize = windowSize;
+            this.materialize = materialize;
+        }
+
+        @Override
+        boolean accept(Object element) {
+            view.array[filled++] = element;
+            if (filled < windowSize) {
+                return true;
+            }
+            filled = 0;
+            return next.accept(view.window(0, windowSize, materialize));
+        }
+
+        @Override
+        boolean end() {
+            return (filled == 0 || next.accept(view.window(0, filled, materialize))) && next.end();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package gatheres;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 import java.util.stream.Gatherer;
 import java.util.stream.Stream;
@@ -59,4 +60,59 @@ public class GathererGroupingDuplicates {
 
         return Gatherer.ofSequential(initializer, integrator, finisher);
     }
+
+    /**
+     * Same output as {@link #consecutiveDuplicates()}, but usable by {@code .parallel()} streams.
+     * <p>
+     * Each segment keeps all of its runs, because its first run may continue the last run of the
+     * segment on its left. The runs are emitted by the finisher once all segments are combined,
+     * so a sequential stream should keep using {@link #consecutiveDuplicates()}.
+     */
+    public static <T> Gatherer<T, ?, List<T>> parallelConsecutiveDuplicates() {
+        // Every run of the segment, in encounter order
+        class SegmentState<T> {
+            final List<List<T>> runs = new ArrayList<>();
+        }
+        // 1. Initializer: Every segment starts with no runs
+        Supplier<SegmentState<T>> initializer = SegmentState::new;
+
+        // 2. Integrator: Extend the last run or open a new one, nothing is pushed yet
+        Gatherer.Integrator<SegmentState<T>, T, List<T>> integrator = Gatherer.Integrator.ofGreedy(
+                (state, element, _) -> {
+                    if (!state.runs.isEmpty() && state.runs.getLast().getFirst().equals(element)) {
+                        state.runs.getLast().add(element);
+                    } else {
+                        var run = new ArrayList<T>();
+                        run.add(element);
+                        state.runs.add(run);
+                    }
+                    return true;
+                });
+
+        // 3. Combiner: Stitch the last run of the left segment with the first run of the right one
+        BinaryOperator<SegmentState<T>> combiner = (left, right) -> {
+            if (left.runs.isEmpty()) return right;
+            if (right.runs.isEmpty()) return left;
+
+            var leftLast = left.runs.getLast();
+            var rightFirst = right.runs.getFirst();
+            int from = 0;
+            if (leftLast.getFirst().equals(rightFirst.getFirst())) {
+                leftLast.addAll(rightFirst);
+                from = 1;
+            }
+            left.runs.addAll(right.runs.subList(from, right.runs.size()));
+            return left;
+        };
+
+        // 4. Finisher: Emit all runs of the combined state
+        BiConsumer<SegmentState<T>, Gatherer.Downstream<? super List<T>>> finisher =
+                (state, downstream) -> {
+                    for (var run : state.runs) {
+                        if (!downstream.push(List.copyOf(run))) return;
+                    }
+                };
+
+        return Gatherer.of(initializer, integrator, combiner, finisher);
+    }
 }
@@ -0,0 +1,141 @@
+package gatheres;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Gatherer;
+import java.util.stream.Stream;
+
+/**
+ * Run-length counterparts of {@link GathererGroupingDuplicates#consecutiveDuplicates()} for primitive values.
+ * <p>
+ * Instead of collecting every run into a {@code List}, each run is described by its value, the index of
+ * its first element and its length. Comparisons are done on the extracted primitive, so the state never
+ * holds boxed values and only one small record is allocated per run (not per element).
+ */
+public class GathererPrimitiveRuns {
+    static void main() {
+        Stream.of(1, 1, 2, 3, 3, 3, 1, 2, 2)
+                .gather(intRuns())
+                .forEach(System.out::println);
+
+        // Output:
+        // IntRun[value=1, startIndex=0, length=2]
+        // IntRun[value=2, startIndex=2, length=1]
+        // IntRun[value=3, startIndex=3, length=3]
+        // IntRun[value=1, startIndex=6, length=1]
+        // IntRun[value=2, startIndex=7, length=2]
+    }
+
+    public record IntRun(int value, long startIndex, long length) {
+    }
+
+    public record LongRun(long value, long startIndex, long length) {
+    }
+
+    /**
+     * Doubles are compared by their bit patterns, the same way {@link Double#equals(Object)} does,
+     * so {@code NaN} forms runs and {@code 0.0} and {@code -0.0} do not.
+     */
+    public record DoubleRun(double value, long startIndex, long length) {
+    }
+
+    public static Gatherer<Integer, ?, IntRun> intRuns() {
+        return intRuns(Integer::intValue);
+    }
+
+    public static Gatherer<Long, ?, LongRun> longRuns() {
+        return longRuns(Long::longValue);
+    }
+
+    public static Gatherer<Double, ?, DoubleRun> doubleRuns() {
+        return doubleRuns(Double::doubleValue);
+    }
+
+    public static <T> Gatherer<T, ?, IntRun> intRuns(ToIntFunction<? super T> mapper) {
+        class IntRunState {
+            int value;
+            long startIndex;
+            long length;
+        }
+
+        Gatherer.Integrator<IntRunState, T, IntRun> integrator = Gatherer.Integrator.of(
+                (state, element, downstream) -> {
+                    int value = mapper.applyAsInt(element);
+                    if (state.length > 0 && state.value == value) {
+                        state.length++;
+                        return true;
+                    }
+                    boolean accepting = state.length == 0
+                            || downstream.push(new IntRun(state.value, state.startIndex, state.length));
+                    state.value = value;
+                    state.startIndex += state.length;
+                    state.length = 1;
+                    return accepting;
+                });
+
+        return Gatherer.ofSequential(IntRunState::new, integrator, (state, downstream) -> {
+            if (state.length > 0) {
+                downstream.push(new IntRun(state.value, state.startIndex, state.length));
+            }
+        });
+    }
+
+    public static <T> Gatherer<T, ?, LongRun> longRuns(ToLongFunction<? super T> mapper) {
+        class LongRunState {
+            long value;
+            long startIndex;
+            long length;
+        }
+
+        Gatherer.Integrator<LongRunState, T, LongRun> integrator = Gatherer.Integrator.of(
+                (state, element, downstream) -> {
+                    long value = mapper.applyAsLong(element);
+                    if (state.length > 0 && state.value == value) {
+                        state.length++;
+                        return true;
+                    }
+                    boolean accepting = state.length == 0
+                            || downstream.push(new LongRun(state.value, state.startIndex, state.length));
+                    state.value = value;
+                    state.startIndex += state.length;
+                    state.length = 1;
+                    return accepting;
+                });
+
+        return Gatherer.ofSequential(LongRunState::new, integrator, (state, downstream) -> {
+            if (state.length > 0) {
+                downstream.push(new LongRun(state.value, state.startIndex, state.length));
+            }
+        });
+    }
+
+    public static <T> Gatherer<T, ?, DoubleRun> doubleRuns(ToDoubleFunction<? super T> mapper) {
+        class DoubleRunState {
+            long bits;
+            long startIndex;
+            long length;
+        }
+
+        Gatherer.Integrator<DoubleRunState, T, DoubleRun> integrator = Gatherer.Integrator.of(
+                (state, element, downstream) -> {
+                    long bits = Double.doubleToLongBits(mapper.applyAsDouble(element));
+                    if (state.length > 0 && state.bits == bits) {
+                        state.length++;
+                        return true;
+                    }
+                    boolean accepting = state.length == 0
+                            || downstream.push(new DoubleRun(Double.longBitsToDouble(state.bits), state.startIndex, state.length));
+                    state.bits = bits;
+                    state.startIndex += state.length;
+                    state.length = 1;
+                    return accepting;
+                });
+
+        return Gatherer.ofSequential(DoubleRunState::new, integrator, (state, downstream) -> {
+            if (state.length > 0) {
+                downstream.push(new DoubleRun(Double.longBitsToDouble(state.bits), state.startIndex, state.length));
+            }
+        });
+    }
+}
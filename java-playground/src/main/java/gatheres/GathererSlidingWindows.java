@@ -0,0 +1,138 @@
+package gatheres;
+
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Gatherer;
+import java.util.stream.Stream;
+
+/**
+ * Sliding-window aggregates computed in O(1) (amortized for min/max) per element.
+ * <p>
+ * Like {@code Gatherers.windowSliding(size)} followed by an aggregation, a value is emitted for every
+ * full window, so {@code n} elements produce {@code n - size + 1} values, and a non-empty stream
+ * shorter than the window yields one value for its elements. The state is sized once from the window
+ * size and nothing is allocated per element apart from the boxed result.
+ */
+public class GathererSlidingWindows {
+    static void main() {
+        Stream.of(1, 2, 3, 4, 5)
+                .gather(average(3))
+                .forEach(System.out::println);
+
+        // Output:
+        // 2.0
+        // 3.0
+        // 4.0
+    }
+
+    public static Gatherer<Integer, ?, Double> average(int windowSize) {
+        return average(windowSize, Integer::longValue);
+    }
+
+    public static Gatherer<Integer, ?, Long> min(int windowSize) {
+        return min(windowSize, Integer::longValue);
+    }
+
+    public static Gatherer<Integer, ?, Long> max(int windowSize) {
+        return max(windowSize, Integer::longValue);
+    }
+
+    /**
+     * Keeps the last {@code windowSize} values in a ring buffer together with their running sum.
+     */
+    public static <T> Gatherer<T, ?, Double> average(int windowSize, ToLongFunction<? super T> mapper) {
+        requirePositive(windowSize);
+
+        class RingBuffer {
+            final long[] values = new long[windowSize];
+            int next;
+            int filled;
+            long sum;
+        }
+
+        Gatherer.Integrator<RingBuffer, T, Double> integrator = Gatherer.Integrator.of(
+                (ring, element, downstream) -> {
+                    long value = mapper.applyAsLong(element);
+                    ring.sum += value - ring.values[ring.next];
+                    ring.values[ring.next] = value;
+                    ring.next = ring.next + 1 == windowSize ? 0 : ring.next + 1;
+                    if (ring.filled < windowSize && ++ring.filled < windowSize) {
+                        return true;
+                    }
+                    return downstream.push((double) ring.sum / windowSize);
+                });
+        BiConsumer<RingBuffer, Gatherer.Downstream<? super Double>> finisher = (ring, downstream) -> {
+            if (ring.filled > 0 && ring.filled < windowSize) {
+                downstream.push((double) ring.sum / ring.filled);
+            }
+        };
+
+        return Gatherer.ofSequential(RingBuffer::new, integrator, finisher);
+    }
+
+    public static <T> Gatherer<T, ?, Long> min(int windowSize, ToLongFunction<? super T> mapper) {
+        return extremum(windowSize, mapper, false);
+    }
+
+    public static <T> Gatherer<T, ?, Long> max(int windowSize, ToLongFunction<? super T> mapper) {
+        return extremum(windowSize, mapper, true);
+    }
+
+    /**
+     * Monotonic deque over two parallel ring arrays: values are kept in decreasing order for max
+     * (increasing for min), so the front is always the extremum of the current window.
+     */
+    private static <T> Gatherer<T, ?, Long> extremum(int windowSize, ToLongFunction<? super T> mapper, boolean max) {
+        requirePositive(windowSize);
+
+        class MonotonicDeque {
+            final long[] values = new long[windowSize];
+            final long[] positions = new long[windowSize];
+            int head;
+            int length;
+            long position;
+
+            int slot(int offset) {
+                int slot = head + offset;
+                return slot >= windowSize ? slot - windowSize : slot;
+            }
+        }
+
+        Gatherer.Integrator<MonotonicDeque, T, Long> integrator = Gatherer.Integrator.of(
+                (deque, element, downstream) -> {
+                    long value = mapper.applyAsLong(element);
+                    long position = deque.position++;
+
+                    if (deque.length > 0 && deque.positions[deque.head] <= position - windowSize) {
+                        deque.head = deque.slot(1);
+                        deque.length--;
+                    }
+                    while (deque.length > 0) {
+                        long back = deque.values[deque.slot(deque.length - 1)];
+                        if (max ? back > value : back < value) break;
+                        deque.length--;
+                    }
+                    int tail = deque.slot(deque.length++);
+                    deque.values[tail] = value;
+                    deque.positions[tail] = position;
+
+                    if (position < windowSize - 1) {
+                        return true;
+                    }
+                    return downstream.push(deque.values[deque.head]);
+                });
+        BiConsumer<MonotonicDeque, Gatherer.Downstream<? super Long>> finisher = (deque, downstream) -> {
+            if (deque.position > 0 && deque.position < windowSize) {
+                downstream.push(deque.values[deque.head]);
+            }
+        };
+
+        return Gatherer.ofSequential(MonotonicDeque::new, integrator, finisher);
+    }
+
+    private static void requirePositive(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("'windowSize' must be greater than zero");
+        }
+    }
+}
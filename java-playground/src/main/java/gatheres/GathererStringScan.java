@@ -0,0 +1,88 @@
+package gatheres;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Gatherer;
+import java.util.stream.Stream;
+
+/**
+ * String accumulating scan, equivalent to {@code Gatherers.scan(() -> prefix, (string, element) -> string + element)}
+ * without copying the whole accumulated string at every step.
+ * <p>
+ * All elements are appended to one growable buffer. Each step emits a {@link CharSequence} snapshot that only
+ * records how long the buffer was at that point; since the buffer is append-only, the snapshot stays valid for
+ * good. The {@code String} is built on the first {@code toString()} call and cached. Snapshots keep the shared
+ * buffer reachable, so they are meant to be consumed (or materialized) along the stream.
+ */
+public class GathererStringScan {
+    static void main() {
+        Stream.of(1, 2, 3, 4)
+                .gather(scan("{"))
+                .forEach(System.out::println);
+
+        // Output:
+        // {1
+        // {12
+        // {123
+        // {1234
+    }
+
+    public static <T> Gatherer<T, ?, CharSequence> scan(CharSequence prefix) {
+        return scan(prefix, String::valueOf);
+    }
+
+    public static <T> Gatherer<T, ?, CharSequence> scan(CharSequence prefix, Function<? super T, ? extends CharSequence> toText) {
+        Objects.requireNonNull(prefix, "'prefix' must not be null");
+        Objects.requireNonNull(toText, "'toText' must not be null");
+
+        Gatherer.Integrator<StringBuilder, T, CharSequence> integrator = Gatherer.Integrator.of(
+                (buffer, element, downstream) -> {
+                    if (Diagnostics.ENABLED) {
+                        Diagnostics.log("string = " + buffer + ", element = " + element);
+                    }
+                    buffer.append(toText.apply(element));
+                    return downstream.push(new Snapshot(buffer, buffer.length()));
+                });
+
+        return Gatherer.ofSequential(() -> new StringBuilder(prefix), integrator);
+    }
+
+    /**
+     * The first {@code length} characters of the shared buffer.
+     */
+    static final class Snapshot implements CharSequence {
+        private final StringBuilder buffer;
+        private final int length;
+        private String string;
+
+        Snapshot(StringBuilder buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, length);
+            return buffer.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, length);
+            return start == 0 ? new Snapshot(buffer, end) : buffer.substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            if (string == null) {
+                string = buffer.substring(0, length);
+            }
+            return string;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package gatheres;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
+import java.util.stream.Gatherer;
+import java.util.stream.Stream;
+
+/**
+ * Alternatives to {@code Gatherers.windowFixed} and {@code Gatherers.windowSliding} that do not copy windows.
+ * <p>
+ * Every window is a read-only view over a backing array owned by the gatherer, and the same view
+ * instance is pushed for every window. A window is only valid until the downstream {@code push}
+ * returns: consumers that keep windows (e.g. {@code toList()}) must either copy them or ask for
+ * materialized windows, which are unmodifiable copies just like the built-ins emit.
+ */
+public class GathererWindowViews {
+    static void main() {
+        Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9)
+                .gather(fixed(3))
+                .filter(batch -> batch.stream().mapToInt(i -> i).sum() > 10)
+                .map(List::copyOf)
+                .forEach(System.out::println);
+
+        // Output:
+        // [4, 5, 6]
+        // [7, 8, 9]
+    }
+
+    public static <T> Gatherer<T, ?, List<T>> fixed(int windowSize) {
+        return fixed(windowSize, false);
+    }
+
+    public static <T> Gatherer<T, ?, List<T>> sliding(int windowSize) {
+        return sliding(windowSize, false);
+    }
+
+    /**
+     * Groups elements into windows of {@code windowSize}, the last one may be smaller.
+     */
+    public static <T> Gatherer<T, ?, List<T>> fixed(int windowSize, boolean materialize) {
+        requirePositive(windowSize);
+
+        class FixedWindow {
+            final WindowView<T> view = new WindowView<>(new Object[windowSize]);
+            int filled;
+        }
+
+        Gatherer.Integrator<FixedWindow, T, List<T>> integrator = Gatherer.Integrator.of(
+                (window, element, downstream) -> {
+                    window.view.array[window.filled++] = element;
+                    if (window.filled < windowSize) {
+                        return true;
+                    }
+                    window.filled = 0;
+                    return downstream.push(window.view.window(0, windowSize, materialize));
+                });
+
+        BiConsumer<FixedWindow, Gatherer.Downstream<? super List<T>>> finisher = (window, downstream) -> {
+            if (window.filled > 0) {
+                downstream.push(window.view.window(0, window.filled, materialize));
+            }
+        };
+
+        return Gatherer.ofSequential(FixedWindow::new, integrator, finisher);
+    }
+
+    /**
+     * Slides a window of {@code windowSize} one element at a time. A stream shorter than the window
+     * produces a single, smaller window.
+     * <p>
+     * Every element is written twice, at {@code slot} and {@code slot + windowSize}, so the current
+     * window is always a contiguous range of the doubled backing array.
+     */
+    public static <T> Gatherer<T, ?, List<T>> sliding(int windowSize, boolean materialize) {
+        requirePositive(windowSize);
+
+        class SlidingWindow {
+            final WindowView<T> view = new WindowView<>(new Object[2 * windowSize]);
+            int next;
+            long seen;
+        }
+
+        Gatherer.Integrator<SlidingWindow, T, List<T>> integrator = Gatherer.Integrator.of(
+                (window, element, downstream) -> {
+                    Object[] array = window.view.array;
+                    array[window.next] = element;
+                    array[window.next + windowSize] = element;
+                    window.next = window.next + 1 == windowSize ? 0 : window.next + 1;
+                    if (++window.seen < windowSize) {
+                        return true;
+                    }
+                    return downstream.push(window.view.window(window.next, windowSize, materialize));
+                });
+
+        BiConsumer<SlidingWindow, Gatherer.Downstream<? super List<T>>> finisher = (window, downstream) -> {
+            if (window.seen > 0 && window.seen < windowSize) {
+                downstream.push(window.view.window(0, (int) window.seen, materialize));
+            }
+        };
+
+        return Gatherer.ofSequential(SlidingWindow::new, integrator, finisher);
+    }
+
+    private static void requirePositive(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("'windowSize' must be greater than zero");
+        }
+    }
+
+    /**
+     * Read-only, repositionable view over a range of a shared array.
+     */
+    static final class WindowView<T> extends AbstractList<T> implements RandomAccess {
+        final Object[] array;
+        private int offset;
+        private int size;
+
+        WindowView(Object[] array) {
+            this.array = array;
+        }
+
+        List<T> window(int offset, int size, boolean materialize) {
+            if (materialize) {
+                @SuppressWarnings("unchecked")
+                T[] copy = (T[]) Arrays.copyOfRange(array, offset, offset + size);
+                return Collections.unmodifiableList(Arrays.asList(copy));
+            }
+            this.offset = offset;
+            this.size = size;
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            Objects.checkIndex(index, size);
+            return (T) array[offset + index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,27 +1,22 @@
 package gatheres;
 
 import java.util.stream.Gatherer;
-import java.util.stream.Gatherers;
 import java.util.stream.Stream;
 
 // https://dev.java/learn/api/streams/gatherers/
 
 public class GatherersPractice {
     public static void main(String[] args) {
-        var fold = Gatherers.scan(
-                () -> "{",
-                (string, element) -> {
-                    System.out.println("string = " + string + ", element = " + element);
-                    return string + element;
-                });
+        var fold = GathererStringScan.<String>scan("{");
 
 
-        var finish = Gatherer.<String, String>ofSequential(
+        var finish = Gatherer.<CharSequence, String>ofSequential(
                 (_, element, downstream) -> {
-                    System.out.println("element = " + element);
-                    element += "}";
-                    if (element.length() > 4) return true;
-                    return downstream.push(element);
+                    if (Diagnostics.ENABLED) {
+                        Diagnostics.log("element = " + element);
+                    }
+                    if (element.length() + 1 > 4) return true;
+                    return downstream.push(element + "}");
                 });
 
 
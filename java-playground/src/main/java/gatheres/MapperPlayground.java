@@ -1,14 +1,15 @@
 package gatheres;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
 public class MapperPlayground {
-    public static void main(String[] args) throws JsonProcessingException {
+    public static void main(String[] args) throws IOException {
         var mapper = new ObjectMapper();
         var jsonMap = """
                 {
@@ -35,6 +36,21 @@ public class MapperPlayground {
                 System.out.println("List");
             }
         });
+
+        var handler = new ParamStreamingReader.ParamHandler<String>() {
+            @Override
+            public String onObject(Stream<Map.Entry<String, JsonNode>> fields) {
+                return "Map of " + fields.count() + " fields";
+            }
+
+            @Override
+            public String onArray(Stream<JsonNode> elements) {
+                return "List of " + elements.count() + " elements";
+            }
+        };
+        for (var json : List.of(jsonMap, jsonArray)) {
+            System.out.println("streamed $.param: " + ParamStreamingReader.read(json, handler));
+        }
     }
 
     record Json(Object param) {
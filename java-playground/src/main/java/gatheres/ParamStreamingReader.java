@@ -0,0 +1,129 @@
+package gatheres;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming counterpart of {@link MapperPlayground}: reads {@code $.param} of a
+ * {@code {"param": ...}} document token by token and hands it to the handler matching its type.
+ * <p>
+ * Nothing but the element currently handed out is held in memory: array elements and object fields are
+ * streamed as they are parsed, each one read into its own {@link JsonNode}. The streams are backed by
+ * the open parser, so they must be consumed inside the handler call.
+ */
+public class ParamStreamingReader {
+
+    private static final ObjectReader READER = new ObjectMapper().reader();
+
+    public interface ParamHandler<R> {
+
+        R onObject(Stream<Map.Entry<String, JsonNode>> fields);
+
+        R onArray(Stream<JsonNode> elements);
+
+        /**
+         * {@code $.param} holding a scalar or {@code null}.
+         */
+        default R onValue(JsonNode value) {
+            throw new IllegalArgumentException("Unsupported $.param type: " + value.getNodeType());
+        }
+
+        default R onMissing() {
+            throw new IllegalArgumentException("Missing $.param");
+        }
+    }
+
+    public static <R> R read(String json, ParamHandler<R> handler) throws IOException {
+        return read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), handler);
+    }
+
+    public static <R> R read(InputStream json, ParamHandler<R> handler) throws IOException {
+        try (JsonParser parser = READER.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object at the root");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (!"param".equals(name)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                try {
+                    return switch (value) {
+                        case START_OBJECT -> handler.onObject(fields(parser));
+                        case START_ARRAY -> handler.onArray(elements(parser));
+                        default -> handler.onValue(READER.readTree(parser));
+                    };
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            return handler.onMissing();
+        }
+    }
+
+    private static Stream<JsonNode> elements(JsonParser parser) {
+        return stream(action -> {
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return false;
+            }
+            JsonNode element = READER.readTree(parser);
+            action.accept(element);
+            return true;
+        });
+    }
+
+    private static Stream<Map.Entry<String, JsonNode>> fields(JsonParser parser) {
+        return stream(action -> {
+            if (parser.nextToken() == JsonToken.END_OBJECT) {
+                return false;
+            }
+            String name = parser.currentName();
+            parser.nextToken();
+            JsonNode value = READER.readTree(parser);
+            action.accept(Map.entry(name, value));
+            return true;
+        });
+    }
+
+    private interface Advance<T> {
+        boolean tryAdvance(Consumer<? super T> action) throws IOException;
+    }
+
+    private static <T> Stream<T> stream(Advance<T> advance) {
+        var spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean done;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (done) {
+                    return false;
+                }
+                try {
+                    done = !advance.tryAdvance(action);
+                    return !done;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+}
@@ -0,0 +1,86 @@
+package gatheres;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Gatherer;
+import java.util.stream.IntStream;
+
+/**
+ * Hand-written gatherers practised in {@code ManualGatherersPracticeTest} and measured against the
+ * {@code Gatherers} built-ins by {@code GatherersBenchmark}.
+ */
+final class PracticeGatherers {
+
+    private PracticeGatherers() {
+    }
+
+    static Gatherer<Integer, ?, Double> slidingWindowAverage(int windowSize) {
+        return Gatherer.<Integer, List<Integer>, Double>ofSequential(
+                ArrayList::new,
+                Gatherer.Integrator.ofGreedy((list, num, _) -> list.add(num)),
+                (list, downstream) -> IntStream.rangeClosed(0, list.size() - windowSize)
+                        .forEach(slide -> downstream.push(IntStream.range(slide, slide + windowSize)
+                                .map(list::get)
+                                .average()
+                                .orElseThrow())));
+    }
+
+    static Gatherer<Integer, ?, List<Integer>> distinctPairs() {
+        enum Num {ODD, EVEN}
+
+        class Divider {
+            final Map<Num, List<Integer>> nums = new EnumMap<>(Map.of(
+                    Num.ODD, new ArrayList<>(),
+                    Num.EVEN, new ArrayList<>()
+            ));
+        }
+
+        return Gatherer.<Integer, Divider, List<Integer>>ofSequential(
+                Divider::new,
+                Gatherer.Integrator.ofGreedy((divider, num, _) -> divider.nums
+                        .get(num % 2 == 0 ? Num.EVEN : Num.ODD)
+                        .add(num)),
+                (divider, downstream) -> {
+                    var odds = divider.nums.get(Num.ODD);
+                    var even = divider.nums.get(Num.EVEN);
+                    IntStream.range(0, Math.min(odds.size(), even.size()))
+                            .forEach(i -> downstream.push(List.of(odds.get(i), even.get(i))));
+                });
+    }
+
+    static Gatherer<Integer, ?, Integer> skipTake(int skip, int take) {
+        return Gatherer.<Integer, List<Integer>, Integer>ofSequential(
+                ArrayList::new,
+                Gatherer.Integrator.ofGreedy((list, num, _) -> list.add(num)),
+                (list, downstream) -> IntStream.range(0, list.size())
+                        .filter(i -> i % (skip + take) >= skip)
+                        .forEach(i -> downstream.push(list.get(i))));
+    }
+
+    static Gatherer<Integer, ?, Integer> deduplication() {
+        return Gatherer.<Integer, Set<Integer>, Integer>ofSequential(
+                HashSet::new,
+                Gatherer.Integrator.ofGreedy((nums, num, _) -> {
+                    nums.add(num);
+                    return true;
+                }),
+                (nums, downstream) -> nums.forEach(downstream::push));
+    }
+
+    static Gatherer<Integer, ?, Integer> runningSum() {
+        class Sum {
+            int value;
+        }
+
+        return Gatherer.<Integer, Sum, Integer>ofSequential(
+                Sum::new,
+                Gatherer.Integrator.of((sum, num, downstream) -> {
+                    sum.value = sum.value + num;
+                    return downstream.push(sum.value);
+                }));
+    }
+}
@@ -0,0 +1,91 @@
+package gatheres;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GathererBatchingTest {
+
+    @Test
+    void batchProcessing_shouldGroupByThreshold() {
+        // when
+        var result = Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9)
+                .gather(GathererBatching.<Integer>batches().maxCount(3).build())
+                .filter(batch -> batch.stream().mapToInt(i -> i).sum() > 10)
+                .map(List::copyOf)
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                List.of(4, 5, 6),
+                List.of(7, 8, 9)
+        );
+    }
+
+    @Test
+    void maxWeight_shouldCloseBatchBeforeOverflow() {
+        // when
+        var result = Stream.of("aa", "bb", "ccc", "dddddddd", "e")
+                .gather(GathererBatching.<String>batches()
+                        .maxWeight(5, String::length)
+                        .materialize(true)
+                        .build())
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                List.of("aa", "bb"),
+                List.of("ccc"),
+                List.of("dddddddd"),
+                List.of("e")
+        );
+    }
+
+    @Test
+    void maxAge_shouldCloseBatchWhenNextElementArrivesLate() {
+        // given
+        var now = new Instant[]{Instant.EPOCH};
+        InstantSource clock = () -> now[0];
+
+        // when
+        var result = Stream.of(1, 2, 3, 4, 5)
+                .peek(i -> now[0] = now[0].plusSeconds(i == 3 ? 10 : 1))
+                .gather(GathererBatching.<Integer>batches()
+                        .maxCount(10)
+                        .maxAge(Duration.ofSeconds(5), clock)
+                        .materialize(true)
+                        .build())
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                List.of(1, 2),
+                List.of(3, 4, 5)
+        );
+    }
+
+    @Test
+    void shouldReuseBatchBuffer() {
+        // when
+        var result = Stream.of(1, 2, 3, 4, 5)
+                .gather(GathererBatching.<Integer>batches().maxCount(2).build())
+                .toList();
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result).allSatisfy(batch -> assertThat(batch).isSameAs(result.getFirst()));
+    }
+
+    @Test
+    void shouldRequireAtLeastOneLimit() {
+        assertThatThrownBy(() -> GathererBatching.batches().build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
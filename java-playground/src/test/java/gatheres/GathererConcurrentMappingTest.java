@@ -0,0 +1,203 @@
+package gatheres;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GathererConcurrentMappingTest {
+
+    @Test
+    void ordered_shouldKeepEncounterOrder() {
+        // when
+        var result = IntStream.range(0, 20).boxed()
+                .gather(GathererConcurrentMapping.<Integer, Integer>mapConcurrent(i -> {
+                            sleep(20 - i);
+                            return i * 2;
+                        })
+                        .maxInFlight(8)
+                        .build())
+                .toList();
+
+        // then
+        assertThat(result).isEqualTo(IntStream.range(0, 20).map(i -> i * 2).boxed().toList());
+    }
+
+    @Test
+    void unordered_shouldNotWaitForSlowElement() {
+        // when
+        var result = IntStream.range(0, 5).boxed()
+                .gather(GathererConcurrentMapping.<Integer, Integer>mapConcurrent(i -> {
+                            sleep(i == 0 ? 300 : 1);
+                            return i;
+                        })
+                        .ordered(false)
+                        .build())
+                .toList();
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+        assertThat(result.getLast()).isZero();
+    }
+
+    @Test
+    void shouldNotExceedMaxInFlight() {
+        // given
+        var active = new AtomicInteger();
+        var maxActive = new AtomicInteger();
+
+        // when
+        var result = IntStream.range(0, 50).boxed()
+                .gather(GathererConcurrentMapping.<Integer, Integer>mapConcurrent(i -> {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            sleep(5);
+                            active.decrementAndGet();
+                            return i;
+                        })
+                        .maxInFlight(3)
+                        .build())
+                .toList();
+
+        // then
+        assertThat(result).hasSize(50);
+        assertThat(maxActive.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void keyedBy_shouldNeverRunSameKeyConcurrently() {
+        // given
+        Map<Integer, AtomicInteger> activeByKey = new ConcurrentHashMap<>();
+        var overlaps = new AtomicInteger();
+        Map<Integer, List<Integer>> order = new ConcurrentHashMap<>();
+
+        // when
+        var result = IntStream.range(0, 30).boxed()
+                .gather(GathererConcurrentMapping.<Integer, Integer>mapConcurrent(i -> {
+                            var active = activeByKey.computeIfAbsent(i % 3, _ -> new AtomicInteger());
+                            if (active.incrementAndGet() > 1) overlaps.incrementAndGet();
+                            sleep(2);
+                            order.computeIfAbsent(i % 3, _ -> new CopyOnWriteArrayList<>()).add(i);
+                            active.decrementAndGet();
+                            return i;
+                        })
+                        .maxInFlight(10)
+                        .ordered(false)
+                        .keyedBy(i -> i % 3)
+                        .build())
+                .toList();
+
+        // then
+        assertThat(result).hasSize(30);
+        assertThat(overlaps.get()).isZero();
+        assertThat(order.get(0)).isSorted();
+        assertThat(order.get(1)).isSorted();
+        assertThat(order.get(2)).isSorted();
+    }
+
+    @Test
+    void timeout_shouldFailSlowMapping() {
+        // given
+        var gatherer = GathererConcurrentMapping.<Integer, Integer>mapConcurrent(i -> {
+                    sleep(i == 2 ? 10_000 : 1);
+                    return i;
+                })
+                .timeout(Duration.ofMillis(50))
+                .build();
+
+        // then
+        assertThatThrownBy(() -> IntStream.range(0, 5).boxed().gather(gatherer).toList())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void keyedBy_shouldNotStartNextMappingWhileTimedOutOneIsRunning() throws InterruptedException {
+        // given
+        var active = new AtomicInteger();
+        var overlaps = new AtomicInteger();
+        var timedOutFinished = new CountDownLatch(1);
+        var gatherer = GathererConcurrentMapping.<Integer, Integer>mapConcurrent(i -> {
+                    if (active.incrementAndGet() > 1) overlaps.incrementAndGet();
+                    if (i == 0) {
+                        sleepIgnoringInterrupts(300);
+                        active.decrementAndGet();
+                        timedOutFinished.countDown();
+                    } else {
+                        active.decrementAndGet();
+                    }
+                    return i;
+                })
+                .keyedBy(_ -> "same")
+                .timeout(Duration.ofMillis(50))
+                .build();
+
+        // when
+        assertThatThrownBy(() -> Stream.of(0, 1).gather(gatherer).toList())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        timedOutFinished.await();
+        sleep(50);
+
+        // then
+        assertThat(overlaps.get()).isZero();
+    }
+
+    @Test
+    void shouldRethrowMappingFailure() {
+        // given
+        var gatherer = GathererConcurrentMapping.<Integer, Integer>mapConcurrent(i -> {
+                    if (i == 3) throw new IllegalStateException("boom");
+                    return i;
+                })
+                .build();
+
+        // then
+        assertThatThrownBy(() -> IntStream.range(0, 5).boxed().gather(gatherer).toList())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void shouldStopWhenDownstreamShortCircuits() {
+        // when
+        var result = IntStream.range(0, 1_000).boxed()
+                .gather(GathererConcurrentMapping.<Integer, Integer>mapConcurrent(i -> i).maxInFlight(4).build())
+                .limit(3)
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(0, 1, 2);
+    }
+
+    private static void sleepIgnoringInterrupts(long millis) {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            try {
+                Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package gatheres;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Gatherer;
+import java.util.stream.Gatherers;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GathererFusionTest {
+
+    @Test
+    void fusedChain_shouldMatchAndThenChain() {
+        // given
+        List<Integer> numbers = IntStream.range(0, 1_000).boxed().toList();
+        var fused = GathererFusion.<Integer>chain()
+                .scan(() -> 0L, (sum, i) -> sum + i)
+                .filter(sum -> sum % 3 == 0)
+                .map(sum -> sum * 2)
+                .windowFixed(4, true)
+                .toGatherer();
+        var chained = Gatherers.<Integer, Long>scan(() -> 0L, (sum, i) -> sum + i)
+                .andThen(Gatherer.<Long, Long>ofSequential((_, sum, downstream) -> sum % 3 != 0 || downstream.push(sum)))
+                .andThen(Gatherer.<Long, Long>ofSequential((_, sum, downstream) -> downstream.push(sum * 2)))
+                .andThen(Gatherers.windowFixed(4));
+
+        // when
+        var fusedResult = numbers.stream().gather(fused).toList();
+        var chainedResult = numbers.stream().gather(chained).toList();
+
+        // then
+        assertThat(fusedResult).isEqualTo(chainedResult);
+    }
+
+    @Test
+    void fold_shouldEmitSingleResultAtTheEnd() {
+        // when
+        var result = Stream.of(1, 2, 3, 4)
+                .gather(GathererFusion.<Integer>chain()
+                        .map(i -> i * 10)
+                        .fold(() -> 0, Integer::sum)
+                        .toGatherer())
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(100);
+    }
+
+    @Test
+    void windowFixed_shouldFlushPartialWindow() {
+        // when
+        var result = Stream.of(1, 2, 3, 4, 5)
+                .gather(GathererFusion.<Integer>chain()
+                        .windowFixed(2)
+                        .map(List::size)
+                        .toGatherer())
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void windowFixed_shouldReuseOneViewUnlessMaterialized() {
+        // when
+        var views = Stream.of(1, 2, 3, 4, 5)
+                .gather(GathererFusion.<Integer>chain()
+                        .windowFixed(2)
+                        .map(window -> window)
+                        .toGatherer())
+                .toList();
+        var sums = Stream.of(1, 2, 3, 4, 5)
+                .gather(GathererFusion.<Integer>chain()
+                        .windowFixed(2)
+                        .map(window -> window.stream().mapToInt(i -> i).sum())
+                        .toGatherer())
+                .toList();
+
+        // then
+        assertThat(views).hasSize(3);
+        assertThat(views.get(0)).isSameAs(views.get(1)).isSameAs(views.get(2));
+        assertThat(sums).containsExactly(3, 7, 5);
+    }
+
+    @Test
+    void shouldStopWhenDownstreamShortCircuits() {
+        // when
+        var result = Stream.iterate(1, i -> i + 1)
+                .gather(GathererFusion.<Integer>chain()
+                        .scan(() -> 0, Integer::sum)
+                        .toGatherer())
+                .limit(4)
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(1, 3, 6, 10);
+    }
+}
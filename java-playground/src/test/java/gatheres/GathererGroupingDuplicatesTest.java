@@ -0,0 +1,69 @@
+package gatheres;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GathererGroupingDuplicatesTest {
+
+    @Test
+    void consecutiveDuplicates_shouldGroupRuns() {
+        // when
+        var result = Stream.of(1, 1, 2, 3, 3, 3, 1, 2, 2)
+                .gather(GathererGroupingDuplicates.consecutiveDuplicates())
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                List.of(1, 1),
+                List.of(2),
+                List.of(3, 3, 3),
+                List.of(1),
+                List.of(2, 2)
+        );
+    }
+
+    @Test
+    void parallelConsecutiveDuplicates_shouldMatchSequentialVersion() {
+        // given
+        var random = new SplittableRandom(7);
+        List<Integer> numbers = IntStream.range(0, 100_000)
+                .map(_ -> random.nextInt(3))
+                .boxed()
+                .toList();
+
+        // when
+        var sequential = numbers.stream()
+                .gather(GathererGroupingDuplicates.consecutiveDuplicates())
+                .toList();
+        var parallel = numbers.parallelStream()
+                .gather(GathererGroupingDuplicates.parallelConsecutiveDuplicates())
+                .toList();
+
+        // then
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    void parallelConsecutiveDuplicates_shouldStitchRunsAcrossSegments() {
+        // given
+        List<Integer> numbers = IntStream.range(0, 10_000)
+                .map(i -> i < 9_000 ? 1 : 2)
+                .boxed()
+                .toList();
+
+        // when
+        var result = numbers.parallelStream()
+                .gather(GathererGroupingDuplicates.parallelConsecutiveDuplicates())
+                .map(List::size)
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(9_000, 1_000);
+    }
+}
@@ -0,0 +1,95 @@
+package gatheres;
+
+import gatheres.GathererPrimitiveRuns.DoubleRun;
+import gatheres.GathererPrimitiveRuns.IntRun;
+import gatheres.GathererPrimitiveRuns.LongRun;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GathererPrimitiveRunsTest {
+
+    @Test
+    void intRuns_shouldDescribeConsecutiveDuplicates() {
+        // when
+        var result = Stream.of(1, 1, 2, 3, 3, 3, 1, 2, 2)
+                .gather(GathererPrimitiveRuns.intRuns())
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                new IntRun(1, 0, 2),
+                new IntRun(2, 2, 1),
+                new IntRun(3, 3, 3),
+                new IntRun(1, 6, 1),
+                new IntRun(2, 7, 2)
+        );
+    }
+
+    @Test
+    void intRuns_shouldMatchGenericGrouping() {
+        // given
+        List<Integer> numbers = Stream.iterate(0, i -> i + 1)
+                .limit(1_000)
+                .map(i -> (i * 31 % 7) / 3)
+                .toList();
+
+        // when
+        var runs = numbers.stream()
+                .gather(GathererPrimitiveRuns.intRuns())
+                .map(run -> List.of(run.value(), (int) run.length()))
+                .toList();
+        var groups = numbers.stream()
+                .gather(GathererGroupingDuplicates.consecutiveDuplicates())
+                .map(group -> List.of(group.getFirst(), group.size()))
+                .toList();
+
+        // then
+        assertThat(runs).isEqualTo(groups);
+    }
+
+    @Test
+    void longRuns_shouldUseExtractedValue() {
+        // when
+        var result = Stream.of("a", "b", "cc", "dd", "ee", "f")
+                .gather(GathererPrimitiveRuns.longRuns(String::length))
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                new LongRun(1, 0, 2),
+                new LongRun(2, 2, 3),
+                new LongRun(1, 5, 1)
+        );
+    }
+
+    @Test
+    void doubleRuns_shouldFollowDoubleEquality() {
+        // when
+        var result = Stream.of(Double.NaN, Double.NaN, 0.0, -0.0, 1.5)
+                .gather(GathererPrimitiveRuns.doubleRuns())
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                new DoubleRun(Double.NaN, 0, 2),
+                new DoubleRun(0.0, 2, 1),
+                new DoubleRun(-0.0, 3, 1),
+                new DoubleRun(1.5, 4, 1)
+        );
+    }
+
+    @Test
+    void intRuns_shouldEmitNothingForEmptyStream() {
+        // when
+        var result = Stream.<Integer>empty()
+                .gather(GathererPrimitiveRuns.intRuns())
+                .toList();
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,101 @@
+package gatheres;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Gatherers;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GathererSlidingWindowsTest {
+
+    @Test
+    void average_shouldReturnCorrectAverages() {
+        // when
+        var result = Stream.of(1, 2, 3, 4, 5)
+                .gather(GathererSlidingWindows.average(3))
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(2.0, 3.0, 4.0);
+    }
+
+    @Test
+    void max_shouldFindWindowMaxima() {
+        // when
+        var result = Stream.of(1, 3, 2, 5, 4, 6, 2)
+                .gather(GathererSlidingWindows.max(3))
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(3L, 5L, 5L, 6L, 6L);
+    }
+
+    @Test
+    void shouldAggregateShortStreamAsOneWindow() {
+        // when
+        var minima = Stream.of(2, 1)
+                .gather(GathererSlidingWindows.min(3))
+                .toList();
+        var averages = Stream.of(1, 2)
+                .gather(GathererSlidingWindows.average(3))
+                .toList();
+
+        // then
+        assertThat(minima).containsExactly(1L);
+        assertThat(averages).containsExactly(1.5);
+    }
+
+    @Test
+    void shouldEmitNothingForEmptyStream() {
+        // when
+        var result = Stream.<Integer>empty()
+                .gather(GathererSlidingWindows.max(3))
+                .toList();
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 100, 2_000})
+    void shouldMatchWindowSliding(int windowSize) {
+        // given
+        var random = new SplittableRandom(windowSize);
+        List<Integer> numbers = IntStream.range(0, 1_000)
+                .map(_ -> random.nextInt(-500, 500))
+                .boxed()
+                .toList();
+        var windows = numbers.stream()
+                .gather(Gatherers.windowSliding(windowSize))
+                .toList();
+
+        // when
+        var averages = numbers.stream().gather(GathererSlidingWindows.average(windowSize)).toList();
+        var minima = numbers.stream().gather(GathererSlidingWindows.min(windowSize)).toList();
+        var maxima = numbers.stream().gather(GathererSlidingWindows.max(windowSize)).toList();
+
+        // then
+        assertThat(averages).isEqualTo(windows.stream()
+                .map(window -> window.stream().mapToLong(i -> i).sum() / (double) window.size())
+                .toList());
+        assertThat(minima).isEqualTo(windows.stream()
+                .map(window -> window.stream().mapToLong(i -> i).min().orElseThrow())
+                .toList());
+        assertThat(maxima).isEqualTo(windows.stream()
+                .map(window -> window.stream().mapToLong(i -> i).max().orElseThrow())
+                .toList());
+    }
+
+    @Test
+    void shouldRejectNonPositiveWindowSize() {
+        assertThatThrownBy(() -> GathererSlidingWindows.average(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package gatheres;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Gatherers;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GathererStringScanTest {
+
+    @Test
+    void scan_shouldMatchStringConcatenatingScan() {
+        // when
+        var result = IntStream.range(0, 200).boxed()
+                .gather(GathererStringScan.scan("{"))
+                .map(CharSequence::toString)
+                .toList();
+
+        // then
+        assertThat(result).isEqualTo(IntStream.range(0, 200).boxed()
+                .gather(Gatherers.scan(() -> "{", (string, element) -> string + element))
+                .toList());
+    }
+
+    @Test
+    void snapshots_shouldStayValidAfterFurtherAppends() {
+        // when
+        var snapshots = Stream.of("Hello", " ", "World")
+                .gather(GathererStringScan.scan(""))
+                .toList();
+
+        // then
+        assertThat(snapshots.getFirst().length()).isEqualTo(5);
+        assertThat(snapshots.getFirst().charAt(4)).isEqualTo('o');
+        assertThat(snapshots.getFirst().toString()).isEqualTo("Hello");
+        assertThat(snapshots.getLast().subSequence(6, 11).toString()).isEqualTo("World");
+    }
+
+    @Test
+    void toString_shouldBeMaterializedOnce() {
+        // when
+        var snapshot = Stream.of("a", "b")
+                .gather(GathererStringScan.scan(">", String::toUpperCase))
+                .toList()
+                .getLast();
+
+        // then
+        assertThat(snapshot.toString()).isEqualTo(">AB");
+        assertThat(snapshot.toString()).isSameAs(snapshot.toString());
+    }
+}
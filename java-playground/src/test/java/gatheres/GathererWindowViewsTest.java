@@ -0,0 +1,88 @@
+package gatheres;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Gatherers;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GathererWindowViewsTest {
+
+    @Test
+    void fixed_shouldReuseSingleView() {
+        // when
+        var result = Stream.of(1, 2, 3, 4, 5)
+                .gather(GathererWindowViews.fixed(2))
+                .toList();
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result).allSatisfy(window -> assertThat(window).isSameAs(result.getFirst()));
+    }
+
+    @Test
+    void fixed_shouldBeValidUntilDownstreamReturns() {
+        // when
+        var result = Stream.of(1, 2, 3, 4, 5)
+                .gather(GathererWindowViews.fixed(2))
+                .map(List::copyOf)
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                List.of(1, 2),
+                List.of(3, 4),
+                List.of(5)
+        );
+    }
+
+    @Test
+    void batchProcessing_shouldGroupByThreshold() {
+        // when
+        var result = Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9)
+                .gather(GathererWindowViews.fixed(3))
+                .filter(batch -> batch.stream().mapToInt(i -> i).sum() > 10)
+                .map(List::copyOf)
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                List.of(4, 5, 6),
+                List.of(7, 8, 9)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 20})
+    void materialized_shouldMatchBuiltInWindows(int windowSize) {
+        // given
+        List<Integer> numbers = IntStream.range(0, 10).boxed().toList();
+
+        // when
+        var fixed = numbers.stream().gather(GathererWindowViews.fixed(windowSize, true)).toList();
+        var sliding = numbers.stream().gather(GathererWindowViews.sliding(windowSize, true)).toList();
+
+        // then
+        assertThat(fixed).isEqualTo(numbers.stream().gather(Gatherers.windowFixed(windowSize)).toList());
+        assertThat(sliding).isEqualTo(numbers.stream().gather(Gatherers.windowSliding(windowSize)).toList());
+    }
+
+    @Test
+    void views_shouldBeReadOnly() {
+        // when
+        var window = Stream.of(1, 2)
+                .gather(GathererWindowViews.<Integer>sliding(2))
+                .findFirst()
+                .orElseThrow();
+
+        // then
+        assertThatThrownBy(() -> window.set(0, 3)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> window.get(2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package gatheres;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParamStreamingReaderTest {
+
+    private static final ParamStreamingReader.ParamHandler<String> DESCRIBING_HANDLER = new ParamStreamingReader.ParamHandler<>() {
+        @Override
+        public String onObject(Stream<Map.Entry<String, JsonNode>> fields) {
+            return "object" + fields.map(Map.Entry::getKey).toList();
+        }
+
+        @Override
+        public String onArray(Stream<JsonNode> elements) {
+            return "array" + elements.map(JsonNode::asInt).toList();
+        }
+
+        @Override
+        public String onValue(JsonNode value) {
+            return "value " + value.asText();
+        }
+
+        @Override
+        public String onMissing() {
+            return "missing";
+        }
+    };
+
+    @Test
+    void shouldDispatchObjectParam() throws Exception {
+        // when
+        var result = ParamStreamingReader.read("""
+                {"other": [1, {"x": 2}], "param": {"a": 1, "b": {"c": [2]}}, "after": 3}
+                """, DESCRIBING_HANDLER);
+
+        // then
+        assertThat(result).isEqualTo("object[a, b]");
+    }
+
+    @Test
+    void shouldDispatchArrayParam() throws Exception {
+        // when
+        var result = ParamStreamingReader.read("""
+                {"param": [1, 2, 3]}
+                """, DESCRIBING_HANDLER);
+
+        // then
+        assertThat(result).isEqualTo("array[1, 2, 3]");
+    }
+
+    @Test
+    void shouldStreamArrayLazily() throws Exception {
+        // given
+        var handler = new ParamStreamingReader.ParamHandler<List<Integer>>() {
+            @Override
+            public List<Integer> onObject(Stream<Map.Entry<String, JsonNode>> fields) {
+                throw new AssertionError("not an object");
+            }
+
+            @Override
+            public List<Integer> onArray(Stream<JsonNode> elements) {
+                return elements.map(JsonNode::asInt).limit(2).toList();
+            }
+        };
+
+        // when
+        var result = ParamStreamingReader.read("""
+                {"param": [1, 2, this is never parsed]}
+                """, handler);
+
+        // then
+        assertThat(result).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldHandleScalarAndMissingParam() throws Exception {
+        assertThat(ParamStreamingReader.read("{\"param\": \"text\"}", DESCRIBING_HANDLER)).isEqualTo("value text");
+        assertThat(ParamStreamingReader.read("{\"other\": 1}", DESCRIBING_HANDLER)).isEqualTo("missing");
+    }
+
+    @Test
+    void shouldRejectNonObjectRoot() {
+        assertThatThrownBy(() -> ParamStreamingReader.read("[1]", DESCRIBING_HANDLER))
+                .isInstanceOf(JsonParseException.class);
+    }
+}
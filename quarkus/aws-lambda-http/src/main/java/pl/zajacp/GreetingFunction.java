@@ -1,6 +1,10 @@
 package pl.zajacp;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.quarkus.funqy.Funq;
+import io.smallrye.mutiny.Uni;
 
 public class GreetingFunction {
 
@@ -8,4 +12,25 @@ public class GreetingFunction {
     public String funqyHello() {
         return "hello funqy";
     }
+
+    /**
+     * Greets a whole batch of names in one invocation, in order.
+     */
+    @Funq
+    public List<String> funqyHellos(List<String> names) {
+        List<String> greetings = new ArrayList<>(names.size());
+        for (String name : names) {
+            greetings.add("hello " + name);
+        }
+        return greetings;
+    }
+
+    /**
+     * Asynchronous {@link #funqyHellos}; Funqy only supports {@link Uni} as a reactive output, so the batch is
+     * completed as a whole rather than streamed.
+     */
+    @Funq
+    public Uni<List<String>> funqyHellosAsync(List<String> names) {
+        return Uni.createFrom().item(() -> funqyHellos(names));
+    }
 }
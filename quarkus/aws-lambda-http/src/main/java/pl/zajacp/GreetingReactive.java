@@ -0,0 +1,31 @@
+package pl.zajacp;
+
+import static io.quarkus.vertx.web.Route.HttpMethod.*;
+
+import java.util.List;
+
+import io.quarkus.vertx.web.Param;
+import io.quarkus.vertx.web.Route;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Non-blocking counterpart of {@link GreetingResource}: classic RESTEasy always dispatches to a worker thread, so
+ * these are reactive routes, served on the Vert.x event loop without a hand-off. They must never block.
+ */
+public class GreetingReactive {
+
+    @Route(path = "/reactive/hello", methods = GET, produces = "text/plain")
+    Uni<String> hello() {
+        return Uni.createFrom().item("hello reactive");
+    }
+
+    /**
+     * One greeting per {@code name} query parameter, a line each, streamed as they are produced.
+     */
+    @Route(path = "/reactive/hellos", methods = GET, produces = "text/plain")
+    Multi<String> hellos(@Param("name") List<String> names) {
+        return Multi.createFrom().iterable(names)
+                .map(name -> "hello " + name + "\n");
+    }
+}
@@ -0,0 +1,58 @@
+package pl.zajacp;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * Constant greeting responses, encoded once at startup instead of on every request: the body as bytes and as a
+ * {@link Buffer} that is written without copying, plus the header values. The messages are fixed for the life of
+ * the instance; a changed {@code greeting.vertx} or {@code greeting.servlet} takes effect with the next deployment.
+ */
+@ApplicationScoped
+public class GreetingResponses {
+
+    static final CharSequence TEXT_PLAIN = HttpHeaders.createOptimized("text/plain");
+
+    public static final class Encoded {
+
+        final byte[] body;
+        final Buffer buffer;
+        final CharSequence contentLength;
+
+        Encoded(String text) {
+            body = text.getBytes(StandardCharsets.UTF_8);
+            // Vert.x writes a duplicate of the buffer, so one instance serves every response
+            buffer = Buffer.buffer(body);
+            contentLength = HttpHeaders.createOptimized(Integer.toString(body.length));
+        }
+    }
+
+    @ConfigProperty(name = "greeting.vertx", defaultValue = "hello vertx")
+    String vertxMessage;
+
+    @ConfigProperty(name = "greeting.servlet", defaultValue = "hello servlet")
+    String servletMessage;
+
+    private Encoded vertx;
+    private Encoded servlet;
+
+    @PostConstruct
+    void init() {
+        vertx = new Encoded(vertxMessage);
+        servlet = new Encoded(servletMessage);
+    }
+
+    Encoded vertx() {
+        return vertx;
+    }
+
+    Encoded servlet() {
+        return servlet;
+    }
+}
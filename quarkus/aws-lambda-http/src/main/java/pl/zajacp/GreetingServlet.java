@@ -2,6 +2,7 @@ package pl.zajacp;
 
 import java.io.IOException;
 
+import jakarta.inject.Inject;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -10,10 +11,16 @@ import jakarta.servlet.http.HttpServletResponse;
 
 @WebServlet(name = "ServletGreeting", urlPatterns = "/servlet/hello")
 public class GreetingServlet extends HttpServlet {
+
+    @Inject
+    GreetingResponses responses;
+
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        GreetingResponses.Encoded response = responses.servlet();
         resp.setStatus(200);
         resp.addHeader("Content-Type", "text/plain");
-        resp.getWriter().write("hello servlet");
+        resp.setContentLength(response.body.length);
+        resp.getOutputStream().write(response.body);
     }
 }
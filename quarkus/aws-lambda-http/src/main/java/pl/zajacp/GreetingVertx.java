@@ -2,13 +2,24 @@ package pl.zajacp;
 
 import static io.quarkus.vertx.web.Route.HttpMethod.*;
 
+import jakarta.inject.Inject;
+
 import io.quarkus.vertx.web.Route;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.RoutingContext;
 
 public class GreetingVertx {
+
+    @Inject
+    GreetingResponses responses;
+
     @Route(path = "/vertx/hello", methods = GET)
     void hello(RoutingContext context) {
-        context.response().headers().set("Content-Type", "text/plain");
-        context.response().setStatusCode(200).end("hello vertx");
+        GreetingResponses.Encoded response = responses.vertx();
+        context.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, GreetingResponses.TEXT_PLAIN)
+                .putHeader(HttpHeaders.CONTENT_LENGTH, response.contentLength)
+                .setStatusCode(200)
+                .end(response.buffer);
     }
 }
@@ -0,0 +1,112 @@
+package pl.zajacp;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * First-call cost of every entry style, each on an application of its own: every nested class has a distinct test
+ * profile, so Quarkus restarts and the first request pays for the adapter, the mock event server and the style's
+ * own stack. Classes shared by the whole JVM, the JDK's HTTP client included, are warm for all but the first
+ * application; run a single style with {@code -Dtest=GreetingFirstCallTest$Servlet} to see it on a cold JVM.
+ * Part of {@code mvn test -Pload-test}.
+ */
+public abstract class GreetingFirstCallTest {
+
+    private final GreetingLoadTest.Endpoint endpoint;
+
+    GreetingFirstCallTest(String style) {
+        endpoint = GreetingLoadTest.ENDPOINTS.stream()
+                .filter(candidate -> candidate.style().equals(style))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "load-test", matches = "true")
+    public void testFirstCallLatency() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        long first = call(client);
+        long warm = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            warm = Math.min(warm, call(client));
+        }
+        System.out.printf("%-8s first call: %.2f ms, best warm call: %.2f ms%n", endpoint.style(), first / 1e6, warm / 1e6);
+    }
+
+    private long call(HttpClient client) throws Exception {
+        URI uri = URI.create(RestAssured.baseURI + ":" + RestAssured.port + RestAssured.basePath + endpoint.path());
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - start;
+        assertEquals(200, response.statusCode());
+        assertEquals(endpoint.body(), response.body());
+        return elapsed;
+    }
+
+    @QuarkusTest
+    @TestProfile(Jaxrs.Profile.class)
+    public static class Jaxrs extends GreetingFirstCallTest {
+        public static class Profile implements QuarkusTestProfile {
+        }
+
+        public Jaxrs() {
+            super("jaxrs");
+        }
+    }
+
+    @QuarkusTest
+    @TestProfile(Servlet.Profile.class)
+    public static class Servlet extends GreetingFirstCallTest {
+        public static class Profile implements QuarkusTestProfile {
+        }
+
+        public Servlet() {
+            super("servlet");
+        }
+    }
+
+    @QuarkusTest
+    @TestProfile(Vertx.Profile.class)
+    public static class Vertx extends GreetingFirstCallTest {
+        public static class Profile implements QuarkusTestProfile {
+        }
+
+        public Vertx() {
+            super("vertx");
+        }
+    }
+
+    @QuarkusTest
+    @TestProfile(Reactive.Profile.class)
+    public static class Reactive extends GreetingFirstCallTest {
+        public static class Profile implements QuarkusTestProfile {
+        }
+
+        public Reactive() {
+            super("reactive");
+        }
+    }
+
+    @QuarkusTest
+    @TestProfile(Funqy.Profile.class)
+    public static class Funqy extends GreetingFirstCallTest {
+        public static class Profile implements QuarkusTestProfile {
+        }
+
+        public Funqy() {
+            super("funqy");
+        }
+    }
+}
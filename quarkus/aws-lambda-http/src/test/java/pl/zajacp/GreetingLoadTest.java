@@ -0,0 +1,107 @@
+package pl.zajacp;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives every entry style through the Lambda HTTP adapter: each request goes to the mock event server, which
+ * turns it into an API Gateway event for the Lambda runtime loop, exactly as in {@link GreetingTest}. Requests are
+ * sent one at a time, the way a Lambda instance serves them, and per style the test reports p50/p99 latency and
+ * the bytes allocated per request; {@link GreetingFirstCallTest} measures the first call of each style.
+ * <p>
+ * Allocations are summed over all threads but the caller's, so they include the mock event server, the runtime
+ * loop and the HTTP client's selector, an equal share for every style. Runs on an application of its own (a
+ * distinct test profile restarts Quarkus) and only with {@code mvn test -Pload-test [-Dload-test.requests=20000]}.
+ */
+@QuarkusTest
+@TestProfile(GreetingLoadTest.Load.class)
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+public class GreetingLoadTest {
+
+    public static class Load implements QuarkusTestProfile {
+    }
+
+    record Endpoint(String style, String path, String body) {
+    }
+
+    static final List<Endpoint> ENDPOINTS = List.of(
+            new Endpoint("jaxrs", "/hello", "hello jaxrs"),
+            new Endpoint("servlet", "/servlet/hello", "hello servlet"),
+            new Endpoint("vertx", "/vertx/hello", "hello vertx"),
+            new Endpoint("reactive", "/reactive/hello", "hello reactive"),
+            new Endpoint("funqy", "/funqyHello", "\"hello funqy\""));
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    public void testCompareEntryStyles() throws Exception {
+        int requests = Integer.getInteger("load-test.requests", 10_000);
+        int warmup = Integer.getInteger("load-test.warmup", requests / 5);
+
+        for (int i = 0; i < warmup; i++) {
+            for (Endpoint endpoint : ENDPOINTS) {
+                call(endpoint);
+            }
+        }
+
+        System.out.printf("%-8s %10s %10s %14s%n", "style", "p50 (µs)", "p99 (µs)", "alloc (B/req)");
+        for (Endpoint endpoint : ENDPOINTS) {
+            long[] latencies = new long[requests];
+            long allocatedBefore = allocatedBytes();
+            for (int r = 0; r < requests; r++) {
+                latencies[r] = call(endpoint);
+            }
+            long allocated = allocatedBytes() - allocatedBefore;
+            Arrays.sort(latencies);
+            System.out.printf("%-8s %10.1f %10.1f %14d%n", endpoint.style(),
+                    percentile(latencies, 50) / 1e3, percentile(latencies, 99) / 1e3, allocated / requests);
+        }
+    }
+
+    private long call(Endpoint endpoint) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(endpoint.path())).GET().build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - start;
+        assertEquals(200, response.statusCode());
+        assertEquals(endpoint.body(), response.body());
+        return elapsed;
+    }
+
+    private static URI uri(String path) {
+        return URI.create(RestAssured.baseURI + ":" + RestAssured.port + RestAssured.basePath + path);
+    }
+
+    static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    /**
+     * Bytes allocated so far by every live thread but the current one; threads that ended in between are lost,
+     * which is why the server's pools are warmed up first.
+     */
+    static long allocatedBytes() {
+        long current = Thread.currentThread().getId();
+        long[] ids = Arrays.stream(THREADS.getAllThreadIds()).filter(id -> id != current).toArray();
+        return Arrays.stream(THREADS.getThreadAllocatedBytes(ids)).filter(bytes -> bytes > 0).sum();
+    }
+}
@@ -30,6 +30,21 @@ public class GreetingTest
                 .body(equalTo("hello vertx"));
     }
 
+    @Test
+    public void testReactive() {
+        RestAssured.when().get("/reactive/hello").then()
+                .contentType("text/plain")
+                .body(equalTo("hello reactive"));
+    }
+
+    @Test
+    public void testReactiveStream() {
+        RestAssured.given().queryParam("name", "Stu", "Bill")
+                .when().get("/reactive/hellos").then()
+                .contentType("text/plain")
+                .body(equalTo("hello Stu\nhello Bill\n"));
+    }
+
     @Test
     public void testFunqy() {
         RestAssured.when().get("/funqyHello").then()
@@ -37,4 +52,14 @@ public class GreetingTest
                 .body(equalTo("\"hello funqy\""));
     }
 
+    @Test
+    public void testFunqyBatch() {
+        for (String function : new String[]{"/funqyHellos", "/funqyHellosAsync"}) {
+            RestAssured.given().contentType("application/json").body("[\"Stu\",\"Bill\"]")
+                    .when().post(function).then()
+                    .contentType("application/json")
+                    .body(equalTo("[\"hello Stu\",\"hello Bill\"]"));
+        }
+    }
+
 }
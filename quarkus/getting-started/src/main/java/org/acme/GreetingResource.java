@@ -1,27 +1,112 @@
 package org.acme;
 
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
+import java.util.List;
+
+/**
+ * Besides the plain endpoints, which Quarkus REST dispatches to a worker thread, each one is available as
+ * {@code /uni} (returns {@link Uni}) and {@code /non-blocking}, both served right on the Vert.x event loop without
+ * a thread hand-off, and as {@code /virtual}, run on a virtual thread. The event-loop variants must never block.
+ */
 @Path("/hello")
 public class GreetingResource {
 
+    static final String HELLO = "Hello from Quarkus REST";
+
     @Inject
     GreetingService service;
 
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/greeting/{name}")
-    public String greeting(String name) {
-        return service.greeting(name);
+    public byte[] greeting(String name) {
+        return service.render(name);
+    }
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/greeting/{name}/uni")
+    public Uni<byte[]> greetingUni(String name) {
+        return Uni.createFrom().item(() -> service.render(name));
+    }
+
+    @GET
+    @NonBlocking
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/greeting/{name}/non-blocking")
+    public byte[] greetingNonBlocking(String name) {
+        return service.render(name);
+    }
+
+    @GET
+    @RunOnVirtualThread
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/greeting/{name}/virtual")
+    public byte[] greetingVirtual(String name) {
+        return service.render(name);
+    }
+
+    /**
+     * One greeting per {@code name} query parameter, a line each, streamed as they are rendered.
+     */
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/greetings")
+    public Multi<String> greetings(@QueryParam("name") List<String> names) {
+        return Multi.createFrom().iterable(names)
+                .map(name -> service.greeting(name) + "\n");
+    }
+
+    /**
+     * Hits, misses, size and hit rate of the rendered greeting cache, one {@code name value} pair per line.
+     */
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/stats")
+    public String stats() {
+        GreetingTemplate.Stats stats = service.stats();
+        return "hits " + stats.hits() + "\n"
+                + "misses " + stats.misses() + "\n"
+                + "size " + stats.size() + "\n"
+                + "hitRate " + stats.hitRate() + "\n";
     }
 
     @GET
     @Produces(MediaType.TEXT_PLAIN)
     public String hello() {
-        return "Hello from Quarkus REST";
+        return HELLO;
+    }
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/uni")
+    public Uni<String> helloUni() {
+        return Uni.createFrom().item(HELLO);
+    }
+
+    @GET
+    @NonBlocking
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/non-blocking")
+    public String helloNonBlocking() {
+        return HELLO;
+    }
+
+    @GET
+    @RunOnVirtualThread
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/virtual")
+    public String helloVirtual() {
+        return HELLO;
     }
 }
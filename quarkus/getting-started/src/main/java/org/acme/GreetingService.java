@@ -1,12 +1,38 @@
 package org.acme;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 @ApplicationScoped
 public class GreetingService {
 
+    @ConfigProperty(name = "greeting.template", defaultValue = "hello {name}")
+    String template;
+
+    @ConfigProperty(name = "greeting.cache.capacity", defaultValue = "256")
+    int capacity;
+
+    private GreetingTemplate compiled;
+
+    @PostConstruct
+    void init() {
+        compiled = new GreetingTemplate(template, capacity);
+    }
+
+    /**
+     * The greeting as UTF-8 bytes, shared with other callers; must not be modified.
+     */
+    public byte[] render(String name) {
+        return compiled.render(name);
+    }
+
     public String greeting(String name) {
-        return "hello " + name;
+        return compiled.format(name);
+    }
+
+    public GreetingTemplate.Stats stats() {
+        return compiled.stats();
     }
 
 }
@@ -0,0 +1,143 @@
+package org.acme;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A greeting template compiled into UTF-8 byte segments, {@code "hello {name}"} into {@code "hello "} and a name
+ * slot, and rendered straight into a byte array. The last {@code capacity} names rendered are kept in an LRU; the
+ * arrays it hands out are shared and must not be modified.
+ * <p>
+ * The LRU is split into stripes by name hash, each an access-ordered map behind its own lock, so concurrent
+ * lookups of different names rarely wait for each other. Eviction is least-recently-used per stripe.
+ */
+public final class GreetingTemplate {
+
+    static final String NAME = "{name}";
+
+    public record Stats(long hits, long misses, int size) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private final String[] literals;
+    private final byte[][] segments;
+    private final int literalLength;
+    private final Map<String, byte[]>[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity how many rendered names to keep, {@code 0} disables the cache
+     */
+    public GreetingTemplate(String template, int capacity) {
+        this(template, capacity, Math.min(4 * Runtime.getRuntime().availableProcessors(), Math.max(capacity, 1)));
+    }
+
+    /**
+     * @param stripes upper bound on the number of stripes, rounded down to a power of two
+     */
+    @SuppressWarnings("unchecked")
+    GreetingTemplate(String template, int capacity, int stripes) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("'capacity' must not be negative");
+        }
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int slot;
+        while ((slot = template.indexOf(NAME, start)) >= 0) {
+            parts.add(template.substring(start, slot));
+            start = slot + NAME.length();
+        }
+        parts.add(template.substring(start));
+        this.literals = parts.toArray(new String[0]);
+        this.segments = parts.stream().map(part -> part.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+        this.literalLength = Arrays.stream(segments).mapToInt(segment -> segment.length).sum();
+
+        int count = capacity == 0 ? 0 : Integer.highestOneBit(Math.min(stripes, capacity));
+        this.stripes = new Map[count];
+        for (int i = 0; i < count; i++) {
+            // spread the capacity exactly, the first stripes take the remainder
+            int stripeCapacity = capacity / count + (i < capacity % count ? 1 : 0);
+            this.stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                    return size() > stripeCapacity;
+                }
+            };
+        }
+    }
+
+    public byte[] render(String name) {
+        if (stripes.length == 0) {
+            misses.increment();
+            return encode(name);
+        }
+        Map<String, byte[]> stripe = stripe(name);
+        synchronized (stripe) {
+            byte[] cached = stripe.get(name);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        byte[] output = encode(name);
+        synchronized (stripe) {
+            stripe.put(name, output);
+        }
+        return output;
+    }
+
+    /**
+     * The greeting as a {@code String}, built from the template's literals; bypasses the cache and its counters.
+     */
+    public String format(String name) {
+        StringBuilder greeting = new StringBuilder(literalLength + name.length() * (literals.length - 1));
+        for (int i = 0; i < literals.length; i++) {
+            if (i > 0) {
+                greeting.append(name);
+            }
+            greeting.append(literals[i]);
+        }
+        return greeting.toString();
+    }
+
+    public Stats stats() {
+        int size = 0;
+        for (Map<String, byte[]> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return new Stats(hits.sum(), misses.sum(), size);
+    }
+
+    private Map<String, byte[]> stripe(String name) {
+        int hash = name.hashCode();
+        return stripes[(hash ^ hash >>> 16) & (stripes.length - 1)];
+    }
+
+    private byte[] encode(String name) {
+        byte[] value = name.getBytes(StandardCharsets.UTF_8);
+        byte[] output = new byte[literalLength + value.length * (segments.length - 1)];
+        int position = 0;
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                System.arraycopy(value, 0, output, position, value.length);
+                position += value.length;
+            }
+            System.arraycopy(segments[i], 0, output, position, segments[i].length);
+            position += segments[i].length;
+        }
+        return output;
+    }
+}
@@ -0,0 +1,94 @@
+package org.acme;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Worker-pool dispatch of {@link GreetingResource} against its event-loop and virtual-thread variants, under
+ * {@code load-test.concurrency} concurrent clients; reports throughput and p50/p99 latency per variant.
+ * Only runs with {@code mvn test -Pload-test [-Dload-test.requests=100000 -Dload-test.concurrency=256]}.
+ */
+@QuarkusTest
+@EnabledIfSystemProperty(named = "load-test", matches = "true")
+public class GreetingResourceLoadTest {
+
+    private static final String[] VARIANTS = {"", "/uni", "/non-blocking", "/virtual"};
+
+    @Test
+    public void testCompareDispatch() throws Exception {
+        int requests = Integer.getInteger("load-test.requests", 50_000);
+        int concurrency = Integer.getInteger("load-test.concurrency", 64);
+
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            System.out.printf("%-40s %10s %10s %10s%n", "endpoint", "req/s", "p50 (µs)", "p99 (µs)");
+            for (String endpoint : new String[]{"/hello", "/hello/greeting/Stu"}) {
+                String expected = endpoint.equals("/hello") ? GreetingResource.HELLO : "hello Stu";
+                for (String variant : VARIANTS) {
+                    URI uri = URI.create(RestAssured.baseURI + ":" + RestAssured.port + endpoint + variant);
+                    run(client, uri, expected, requests / 5, concurrency);
+                    long start = System.nanoTime();
+                    long[] latencies = run(client, uri, expected, requests, concurrency);
+                    long elapsed = System.nanoTime() - start;
+                    System.out.printf("%-40s %10.0f %10.1f %10.1f%n", endpoint + variant, requests / (elapsed / 1e9),
+                            percentile(latencies, 50) / 1e3, percentile(latencies, 99) / 1e3);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends {@code requests} requests from {@code concurrency} clients, each waiting for its response before the
+     * next request.
+     */
+    private static long[] run(HttpClient client, URI uri, String expected, int requests, int concurrency) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        AtomicInteger remaining = new AtomicInteger(requests);
+        List<Future<long[]>> clients = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[requests];
+                    int sent = 0;
+                    while (remaining.getAndDecrement() > 0) {
+                        long start = System.nanoTime();
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        latencies[sent++] = System.nanoTime() - start;
+                        assertEquals(200, response.statusCode());
+                        assertEquals(expected, response.body());
+                    }
+                    return Arrays.copyOf(latencies, sent);
+                }));
+            }
+        }
+        long[] latencies = new long[requests];
+        int position = 0;
+        for (Future<long[]> future : clients) {
+            long[] sent = future.get();
+            System.arraycopy(sent, 0, latencies, position, sent.length);
+            position += sent.length;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+}
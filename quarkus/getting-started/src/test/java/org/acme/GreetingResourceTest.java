@@ -3,10 +3,14 @@ package org.acme;
 import io.quarkus.test.junit.QuarkusTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
 public class GreetingResourceTest {
@@ -20,6 +24,17 @@ public class GreetingResourceTest {
              .body(is("Hello from Quarkus REST"));
     }
 
+    @Test
+    public void testHelloVariants() {
+        for (String variant : new String[]{"uni", "non-blocking", "virtual"}) {
+            given()
+              .when().get("/hello/" + variant)
+              .then()
+                 .statusCode(200)
+                 .body(is("Hello from Quarkus REST"));
+        }
+    }
+
     @Test
     public void testGreetingEndpoint() {
         String uuid = UUID.randomUUID().toString();
@@ -31,4 +46,59 @@ public class GreetingResourceTest {
             .body(is("hello " + uuid));
     }
 
+    @Test
+    public void testGreetingVariants() {
+        for (String variant : new String[]{"uni", "non-blocking", "virtual"}) {
+            String uuid = UUID.randomUUID().toString();
+            given()
+              .pathParam("name", uuid)
+              .pathParam("variant", variant)
+              .when().get("/hello/greeting/{name}/{variant}")
+              .then()
+                .statusCode(200)
+                .body(is("hello " + uuid));
+        }
+    }
+
+    @Test
+    public void testGreetingsEndpoint() {
+        given()
+          .queryParam("name", "Stu", "Bill")
+          .when().get("/hello/greetings")
+          .then()
+            .statusCode(200)
+            .body(is("hello Stu\nhello Bill\n"));
+    }
+
+
+    @Test
+    public void testStatsEndpoint() {
+        Map<String, Double> before = stats();
+        String uuid = UUID.randomUUID().toString();
+        for (int i = 0; i < 2; i++) {
+            given()
+              .pathParam("name", uuid)
+              .when().get("/hello/greeting/{name}")
+              .then()
+                .statusCode(200);
+        }
+
+        Map<String, Double> after = stats();
+
+        assertEquals(before.get("hits") + 1, after.get("hits"));
+        assertEquals(before.get("misses") + 1, after.get("misses"));
+        assertTrue(after.get("size") >= 1);
+        assertEquals(after.get("hits") / (after.get("hits") + after.get("misses")), after.get("hitRate"), 1e-9);
+    }
+
+    private static Map<String, Double> stats() {
+        String body = given()
+          .when().get("/hello/stats")
+          .then()
+            .statusCode(200)
+            .extract().asString();
+        return body.lines()
+                .map(line -> line.split(" "))
+                .collect(Collectors.toMap(pair -> pair[0], pair -> Double.parseDouble(pair[1])));
+    }
 }
@@ -0,0 +1,67 @@
+package org.acme;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GreetingTemplateTest {
+
+    @Test
+    public void testRendersEverySlot() {
+        assertEquals("hello Józef", render(new GreetingTemplate("hello {name}", 4), "Józef"));
+        assertEquals("Stu, Stu!", render(new GreetingTemplate("{name}, {name}!", 4), "Stu"));
+        assertEquals("hi", render(new GreetingTemplate("hi", 4), "Stu"));
+    }
+
+    @Test
+    public void testFormatMatchesRenderAndBypassesTheCache() {
+        GreetingTemplate template = new GreetingTemplate("{name}, hello {name}!", 4);
+
+        assertEquals(render(template, "Józef"), template.format("Józef"));
+        assertEquals(new GreetingTemplate.Stats(0, 1, 1), template.stats());
+    }
+
+    @Test
+    public void testKeepsTheMostRecentlyUsedNames() {
+        GreetingTemplate template = new GreetingTemplate("hello {name}", 2, 1);
+
+        byte[] stu = template.render("Stu");
+        template.render("Bill");
+        assertSame(stu, template.render("Stu"));
+        template.render("Józef");
+        template.render("Bill");
+
+        assertEquals(new GreetingTemplate.Stats(1, 4, 2), template.stats());
+        assertEquals(0.2, template.stats().hitRate());
+    }
+
+    @Test
+    public void testStripesShareTheCapacity() {
+        GreetingTemplate template = new GreetingTemplate("hello {name}", 10, 4);
+
+        for (int i = 0; i < 1_000; i++) {
+            template.render("name-" + i);
+        }
+
+        assertTrue(template.stats().size() <= 10);
+        assertEquals(1_000, template.stats().misses());
+    }
+
+    @Test
+    public void testZeroCapacityDisablesTheCache() {
+        GreetingTemplate template = new GreetingTemplate("hello {name}", 0);
+
+        template.render("Stu");
+        template.render("Stu");
+
+        assertEquals(new GreetingTemplate.Stats(0, 2, 0), template.stats());
+    }
+
+    private static String render(GreetingTemplate template, String name) {
+        return new String(template.render(name), StandardCharsets.UTF_8);
+    }
+}
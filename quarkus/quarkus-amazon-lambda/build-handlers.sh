@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# Builds the full artifact and one slim artifact per handler, then compares their size and cold start.
+#
+#   ./build-handlers.sh            JVM runners
+#   NATIVE=1 ./build-handlers.sh   native runners
+#   BOOTS=20 ./build-handlers.sh   cold boots per runner (default 10)
+set -euo pipefail
+cd "$(dirname "$0")"
+
+HANDLERS=(test stream batch)
+BOOTS=${BOOTS:-10}
+MVN_ARGS=(-B -q package -DskipTests)
+if [[ -n "${NATIVE:-}" ]]; then
+  MVN_ARGS+=(-Dnative)
+fi
+
+artifact() {
+  local dir=$1
+  if [[ -n "${NATIVE:-}" ]]; then
+    ls "$dir"/*-runner
+  else
+    echo "$dir/quarkus-app/quarkus-run.jar"
+  fi
+}
+
+size_kb() {
+  local dir=$1
+  if [[ -n "${NATIVE:-}" ]]; then
+    du -k "$(artifact "$dir")" | cut -f1
+  else
+    du -sk "$dir/quarkus-app" | cut -f1
+  fi
+}
+
+echo "Building all handlers"
+mvn "${MVN_ARGS[@]}"
+RUNNERS=("all=$(artifact target)")
+SIZES=("all $(size_kb target)")
+
+for handler in "${HANDLERS[@]}"; do
+  echo "Building $handler handler"
+  mvn "${MVN_ARGS[@]}" -Dquarkus.profile="$handler-handler"
+  RUNNERS+=("$handler=$(artifact "target/$handler-handler")")
+  SIZES+=("$handler $(size_kb "target/$handler-handler")")
+done
+
+echo
+printf '%-16s %12s %10s\n' artifact "size MB" "vs all"
+all_kb=${SIZES[0]#* }
+for entry in "${SIZES[@]}"; do
+  name=${entry% *}
+  kb=${entry#* }
+  awk -v name="$name" -v kb="$kb" -v all="$all_kb" \
+    'BEGIN { printf "%-16s %12.1f %+9.1f%%\n", name, kb / 1024, (kb / all - 1) * 100 }'
+done
+echo
+
+# the batch handler expects NDJSON, the others the plain event
+SINGLE=()
+for runner in "${RUNNERS[@]}"; do
+  [[ $runner == batch=* ]] && BATCH=$runner || SINGLE+=("$runner")
+done
+java src/test/java/pl/zajacp/ColdStartHarness.java --boots "$BOOTS" \
+  --out target/cold-start/handlers.csv "${SINGLE[@]}" | sed -n '/^runner/,$p'
+java src/test/java/pl/zajacp/ColdStartHarness.java --boots "$BOOTS" --payload payload.ndjson \
+  --out target/cold-start/batch.csv "$BATCH" | sed -n '/^runner/,$p' | tail -n +3
@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Compares TestLambda's first invocation in a fresh JVM against a JVM restored from a primed CRaC checkpoint.
+# Needs a CRaC-enabled JDK (e.g. Azul Zulu with CRaC) as JAVA_HOME or on the PATH; checkpointing may need root.
+#
+#   ./crac-priming.sh              5 runs of each
+#   RUNS=20 ./crac-priming.sh
+set -euo pipefail
+cd "$(dirname "$0")"
+
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+RUNS=${RUNS:-5}
+IMAGE=target/crac-image
+
+if ! "$JAVA" -XX:CRaCCheckpointTo=/tmp -version >/dev/null 2>&1; then
+  echo "$JAVA does not support CRaC" >&2
+  exit 1
+fi
+
+mvn -B -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt -Dmdep.includeScope=test
+CP="target/classes:target/test-classes:$(cat target/test-classpath.txt)"
+
+millis() { date +%s%3N; }
+
+# wall time of the whole process next to the in-process first invocation latency
+measure() {
+  local label=$1
+  shift
+  local start output
+  start=$(millis)
+  output=$("$@" | tail -n 1)
+  echo "$label: process $(( $(millis) - start )) ms, $output"
+}
+
+echo "Cold start"
+for _ in $(seq "$RUNS"); do
+  measure cold "$JAVA" -cp "$CP" pl.zajacp.CracPrimingDemo cold
+done
+
+echo "Checkpoint after priming"
+rm -rf "$IMAGE"
+"$JAVA" -XX:CRaCCheckpointTo="$IMAGE" -cp "$CP" pl.zajacp.CracPrimingDemo checkpoint >/dev/null || true
+if [[ ! -d $IMAGE ]]; then
+  echo "No checkpoint written to $IMAGE" >&2
+  exit 1
+fi
+
+echo "Restore"
+for _ in $(seq "$RUNS"); do
+  measure restored "$JAVA" -XX:CRaCRestoreFrom="$IMAGE"
+done
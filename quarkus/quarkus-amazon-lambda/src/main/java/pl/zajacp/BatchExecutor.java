@@ -0,0 +1,47 @@
+package pl.zajacp;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Worker pool of the parallel {@link BatchLambda} mode, sized by {@code batch.concurrency}
+ * (the number of available processors by default). Only created once a parallel batch needs it.
+ */
+@ApplicationScoped
+public class BatchExecutor {
+
+    @ConfigProperty(name = "batch.concurrency")
+    OptionalInt concurrency;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void start() {
+        int parallelism = concurrency.orElse(Runtime.getRuntime().availableProcessors());
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("'batch.concurrency' must be greater than zero");
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    public int concurrency() {
+        return pool.getParallelism();
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, pool);
+    }
+}
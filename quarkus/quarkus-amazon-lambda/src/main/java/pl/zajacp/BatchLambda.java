@@ -0,0 +1,157 @@
+package pl.zajacp;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Newline-delimited JSON counterpart of {@link TestLambda}: every input line is an {@link InputObject}, every
+ * output line either its {@link OutputObject} or a {@link RecordError} when that record could not be processed.
+ * Records are read, processed and written one at a time, so memory does not grow with the batch.
+ * <p>
+ * With {@code batch.mode=parallel} records are processed on the {@link BatchExecutor} instead, a bounded window
+ * of them at a time; output keeps the input order.
+ */
+@Named("batch")
+@RegisterForReflection(targets = BatchLambda.RecordError.class)
+public class BatchLambda implements RequestStreamHandler {
+
+    @Inject
+    ProcessingService service;
+
+    @Inject
+    ObjectMapper mapper;
+
+    @Inject
+    BatchExecutor executor;
+
+    @Inject
+    LambdaMetrics metrics;
+
+    @ConfigProperty(name = "batch.mode", defaultValue = "serial")
+    BatchMode mode;
+
+    public enum BatchMode {
+        SERIAL, PARALLEL
+    }
+
+    private Timer invocationTimer;
+    private Timer processTimer;
+
+    @PostConstruct
+    void init() {
+        invocationTimer = metrics.invocationTimer("batch");
+        processTimer = metrics.processTimer();
+    }
+
+    @Override
+    public void handleRequest(InputStream inputStream, OutputStream outputStream, Context context) throws IOException {
+        long start = System.nanoTime();
+        try {
+            handle(inputStream, outputStream, context);
+        } catch (IOException | RuntimeException e) {
+            metrics.error("batch", e);
+            throw e;
+        } finally {
+            metrics.record(invocationTimer, start);
+        }
+    }
+
+    private void handle(InputStream inputStream, OutputStream outputStream, Context context) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        long records;
+        try (SequenceWriter writer = mapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+            records = mode == BatchMode.PARALLEL
+                    ? processInParallel(reader, writer, context)
+                    : processSerially(reader, writer, context);
+        }
+        if (records > 0) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
+
+    private long processSerially(BufferedReader reader, SequenceWriter writer, Context context) throws IOException {
+        long records = 0;
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                writer.write(process(line, lineNumber, context));
+                records++;
+            }
+        }
+        return records;
+    }
+
+    private long processInParallel(BufferedReader reader, SequenceWriter writer, Context context) throws IOException {
+        // twice the pool size, so workers keep going while the oldest record is awaited
+        int windowSize = 2 * executor.concurrency();
+        Deque<CompletableFuture<Object>> window = new ArrayDeque<>(windowSize);
+        long records = 0;
+        try {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String record = line;
+                long recordLineNumber = lineNumber;
+                window.add(executor.submit(() -> process(record, recordLineNumber, context)));
+                records++;
+                if (window.size() == windowSize) {
+                    writer.write(window.remove().join());
+                }
+            }
+            while (!window.isEmpty()) {
+                writer.write(window.remove().join());
+            }
+            return records;
+        } finally {
+            window.forEach(future -> future.cancel(true));
+        }
+    }
+
+    Object process(String line, long lineNumber, Context context) {
+        try {
+            InputObject input = mapper.readValue(line, InputObject.class);
+            long start = System.nanoTime();
+            OutputObject output = service.process(input);
+            metrics.record(processTimer, start);
+            return output.withRequestId(context.getAwsRequestId());
+        } catch (Exception e) {
+            metrics.error("batch", e);
+            return new RecordError(lineNumber, e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    public record RecordError(long line, String error, String message) {
+    }
+}
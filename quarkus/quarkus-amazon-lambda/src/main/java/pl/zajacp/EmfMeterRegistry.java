@@ -0,0 +1,146 @@
+package pl.zajacp;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Statistic;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.NamingConvention;
+import io.micrometer.core.instrument.step.StepMeterRegistry;
+import io.micrometer.core.instrument.step.StepRegistryConfig;
+import io.micrometer.core.instrument.util.NamedThreadFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes every step as CloudWatch Embedded Metric Format lines on standard output, one JSON document per meter
+ * with its tags as dimensions. Lambda ships standard output to CloudWatch Logs, which extracts the metrics, so
+ * neither a metrics endpoint nor a CloudWatch client is needed. Meters that saw no activity during a step are skipped.
+ */
+public class EmfMeterRegistry extends StepMeterRegistry {
+
+    public interface EmfConfig extends StepRegistryConfig {
+
+        @Override
+        default String prefix() {
+            return "emf";
+        }
+
+        default String namespace() {
+            return "quarkus-amazon-lambda";
+        }
+    }
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final EmfConfig config;
+    private final PrintStream output;
+
+    public EmfMeterRegistry(EmfConfig config, Clock clock, PrintStream output) {
+        super(config, clock);
+        this.config = config;
+        this.output = output;
+        config().namingConvention(NamingConvention.dot);
+        start(new NamedThreadFactory("emf-metrics-publisher"));
+    }
+
+    @Override
+    protected void publish() {
+        long timestamp = clock.wallTime();
+        for (Meter meter : getMeters()) {
+            String line = toEmf(meter, timestamp);
+            if (line != null) {
+                output.println(line);
+            }
+        }
+        output.flush();
+    }
+
+    @Override
+    protected TimeUnit getBaseTimeUnit() {
+        return TimeUnit.MILLISECONDS;
+    }
+
+    String toEmf(Meter meter, long timestamp) {
+        List<Measurement> measurements = new ArrayList<>();
+        boolean counted = false;
+        boolean active = false;
+        for (Measurement measurement : meter.measure()) {
+            double value = measurement.getValue();
+            if (Double.isFinite(value)) {
+                measurements.add(measurement);
+            }
+            if (measurement.getStatistic() == Statistic.COUNT) {
+                counted = true;
+                active |= value > 0;
+            }
+        }
+        // counted meters only when they saw activity, gauges whenever they have a value
+        if (measurements.isEmpty() || (counted && !active)) {
+            return null;
+        }
+
+        Meter.Id id = meter.getId();
+        String name = id.getConventionName(config().namingConvention());
+        List<Tag> tags = id.getConventionTags(config().namingConvention());
+        StringWriter line = new StringWriter();
+        try (JsonGenerator json = JSON.createGenerator(line)) {
+            json.writeStartObject();
+            json.writeObjectFieldStart("_aws");
+            json.writeNumberField("Timestamp", timestamp);
+            json.writeArrayFieldStart("CloudWatchMetrics");
+            json.writeStartObject();
+            json.writeStringField("Namespace", config.namespace());
+            json.writeArrayFieldStart("Dimensions");
+            json.writeStartArray();
+            for (Tag tag : tags) {
+                json.writeString(tag.getKey());
+            }
+            json.writeEndArray();
+            json.writeEndArray();
+            json.writeArrayFieldStart("Metrics");
+            for (Measurement measurement : measurements) {
+                json.writeStartObject();
+                json.writeStringField("Name", metricName(name, measurement, measurements.size()));
+                json.writeStringField("Unit", unit(meter, measurement.getStatistic()));
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeEndArray();
+            json.writeEndObject();
+            for (Tag tag : tags) {
+                json.writeStringField(tag.getKey(), tag.getValue());
+            }
+            for (Measurement measurement : measurements) {
+                json.writeNumberField(metricName(name, measurement, measurements.size()), measurement.getValue());
+            }
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return line.toString();
+    }
+
+    private static String metricName(String name, Measurement measurement, int measurements) {
+        return measurements == 1 ? name : name + "." + measurement.getStatistic().getTagValueRepresentation();
+    }
+
+    private static String unit(Meter meter, Statistic statistic) {
+        if (statistic == Statistic.TOTAL_TIME || (statistic == Statistic.MAX && meter.getId().getType() == Meter.Type.TIMER)) {
+            return "Milliseconds";
+        }
+        if ("bytes".equals(meter.getId().getBaseUnit())) {
+            return "Bytes";
+        }
+        return statistic == Statistic.COUNT ? "Count" : "None";
+    }
+}
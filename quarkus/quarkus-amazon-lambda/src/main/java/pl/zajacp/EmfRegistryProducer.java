@@ -0,0 +1,43 @@
+package pl.zajacp;
+
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.Clock;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+
+/**
+ * Quarkus adds every produced {@link io.micrometer.core.instrument.MeterRegistry} to its root registry.
+ */
+public class EmfRegistryProducer {
+
+    @ConfigProperty(name = "lambda.metrics.namespace", defaultValue = "quarkus-amazon-lambda")
+    String namespace;
+
+    @ConfigProperty(name = "lambda.metrics.step", defaultValue = "PT1M")
+    Duration step;
+
+    @Produces
+    @Singleton
+    public EmfMeterRegistry emfMeterRegistry() {
+        EmfMeterRegistry.EmfConfig config = new EmfMeterRegistry.EmfConfig() {
+            @Override
+            public String get(String key) {
+                return null;
+            }
+
+            @Override
+            public Duration step() {
+                return step;
+            }
+
+            @Override
+            public String namespace() {
+                return namespace;
+            }
+        };
+        return new EmfMeterRegistry(config, Clock.SYSTEM, System.out);
+    }
+}
@@ -0,0 +1,27 @@
+package pl.zajacp;
+
+import java.time.Duration;
+
+/**
+ * When {@link UpperCaseTranscoder} flushes its output while streaming: once {@code bytes} were written since the
+ * last flush, or once {@code interval} has passed since it. Both are checked as chunks are written, no background
+ * thread is involved; zero disables either. The output is always flushed at the end.
+ */
+public record FlushPolicy(long bytes, Duration interval) {
+
+    public static final FlushPolicy AT_END = new FlushPolicy(0, Duration.ZERO);
+
+    public FlushPolicy {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("'bytes' must not be negative");
+        }
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("'interval' must not be negative");
+        }
+    }
+
+    boolean due(long unflushedBytes, long nanosSinceFlush) {
+        return (bytes > 0 && unflushedBytes >= bytes)
+                || (!interval.isZero() && unflushedBytes > 0 && nanosSinceFlush >= interval.toNanos());
+    }
+}
@@ -0,0 +1,145 @@
+package pl.zajacp;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.StartupEvent;
+import org.crac.Core;
+import org.crac.Resource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Runs representative requests through {@link TestLambda} right before a CRaC / SnapStart checkpoint, so the
+ * restored process starts with JSON binding, {@link ProcessingService} and string concatenation already
+ * class-initialized and JIT-compiled instead of paying for it on the first real invocations.
+ * <p>
+ * Registration is a no-op on JVMs without CRaC, and the primer is skipped in builds without {@link TestLambda}.
+ */
+@ApplicationScoped
+public class HandlerPrimer implements Resource {
+
+    private static final String[] REQUESTS = {
+            "{\"name\": \"Stu\", \"greeting\": \"Hello\"}",
+            "{\"name\": \"Józef\", \"greeting\": \"Dzień dobry\"}",
+            "{\"greeting\": \"Hi\", \"name\": \"Bill\", \"unknown\": [1, {\"nested\": true}]}",
+            "{\"name\": \"Stuart\", \"greeting\": \"Hello\"}"
+    };
+
+    @Inject
+    Instance<TestLambda> handler;
+
+    @Inject
+    ObjectMapper mapper;
+
+    @Inject
+    LambdaMetrics metrics;
+
+    @ConfigProperty(name = "lambda.priming.iterations", defaultValue = "10000")
+    int iterations;
+
+    void register(@Observes StartupEvent event) {
+        if (handler.isResolvable()) {
+            Core.getGlobalContext().register(this);
+        }
+    }
+
+    @Override
+    public void beforeCheckpoint(org.crac.Context<? extends Resource> context) {
+        prime(handler.get(), mapper, metrics, iterations);
+    }
+
+    @Override
+    public void afterRestore(org.crac.Context<? extends Resource> context) {
+    }
+
+    /**
+     * Binds, handles and serializes every representative request {@code iterations} times, the failing one included.
+     * Nothing this thread does is recorded to {@code metrics} meanwhile, so the first metrics step after a restore
+     * holds real invocations only.
+     */
+    static void prime(TestLambda handler, ObjectMapper mapper, LambdaMetrics metrics, int iterations) {
+        Context context = new PrimingContext();
+        metrics.withoutRecording(() -> {
+            for (int i = 0; i < iterations; i++) {
+                for (String request : REQUESTS) {
+                    try {
+                        InputObject input = mapper.readValue(request, InputObject.class);
+                        mapper.writeValueAsBytes(handler.handleRequest(input, context));
+                    } catch (IllegalArgumentException e) {
+                        // the "Stuart" request, primes the error path
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        });
+    }
+
+    private static final class PrimingContext implements Context {
+
+        @Override
+        public String getAwsRequestId() {
+            return "priming";
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return null;
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return null;
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return null;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return 0;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return null;
+        }
+    }
+}
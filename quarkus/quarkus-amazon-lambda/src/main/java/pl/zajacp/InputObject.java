@@ -1,25 +1,71 @@
 package pl.zajacp;
 
-public class InputObject {
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
-    private String name;
-    private String greeting;
+import java.io.IOException;
 
-    public String getName() {
-        return name;
-    }
+/**
+ * Bound by the hand-written {@link Serializer}/{@link Deserializer} pair rather than by reflective bean
+ * introspection, which keeps both the first and every later request off the reflection path.
+ */
+@JsonSerialize(using = InputObject.Serializer.class)
+@JsonDeserialize(using = InputObject.Deserializer.class)
+public record InputObject(String name, String greeting) {
 
-    public InputObject setName(String name) {
-        this.name = name;
-        return this;
-    }
+    public static final class Serializer extends StdSerializer<InputObject> {
+
+        public Serializer() {
+            super(InputObject.class);
+        }
 
-    public String getGreeting() {
-        return greeting;
+        @Override
+        public void serialize(InputObject value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(value);
+            generator.writeStringField("name", value.name());
+            generator.writeStringField("greeting", value.greeting());
+            generator.writeEndObject();
+        }
     }
 
-    public InputObject setGreeting(String greeting) {
-        this.greeting = greeting;
-        return this;
+    public static final class Deserializer extends StdDeserializer<InputObject> {
+
+        public Deserializer() {
+            super(InputObject.class);
+        }
+
+        @Override
+        public InputObject deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartObjectToken()) {
+                return (InputObject) context.handleUnexpectedToken(InputObject.class, parser);
+            }
+            String name = null;
+            String greeting = null;
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "name" -> name = readString(parser, context);
+                    case "greeting" -> greeting = readString(parser, context);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new InputObject(name, greeting);
+        }
+
+        /**
+         * Objects and arrays are rejected like the reflective binding did, rather than read from the inside.
+         */
+        private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken().isScalarValue()) {
+                return parser.getValueAsString();
+            }
+            return (String) context.handleUnexpectedToken(String.class, parser);
+        }
     }
 }
@@ -0,0 +1,23 @@
+package pl.zajacp;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+
+/**
+ * Applies the {@link JsonMetricsModule} to the application's {@link ObjectMapper}, which the Lambda runtime copies
+ * to bind the {@link TestLambda} events and which {@link BatchLambda} and {@link HandlerPrimer} inject.
+ */
+@Singleton
+public class JsonMetricsCustomizer implements ObjectMapperCustomizer {
+
+    @Inject
+    LambdaMetrics metrics;
+
+    @Override
+    public void customize(ObjectMapper mapper) {
+        mapper.registerModule(new JsonMetricsModule(metrics));
+    }
+}
@@ -0,0 +1,85 @@
+package pl.zajacp;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+
+/**
+ * Times the {@link InputObject} and {@link OutputObject} codecs as the {@code serialize}/{@code deserialize} stages.
+ * The records keep pointing at their codecs through annotations, so any plain mapper still binds them without
+ * metrics; this module masks those annotations with a mix-in and registers the same codecs wrapped in timers from
+ * the given {@link LambdaMetrics}.
+ */
+public class JsonMetricsModule extends SimpleModule {
+
+    public JsonMetricsModule(LambdaMetrics metrics) {
+        super("json-metrics");
+        bind(InputObject.class, new InputObject.Serializer(), new InputObject.Deserializer(), metrics);
+        bind(OutputObject.class, new OutputObject.Serializer(), new OutputObject.Deserializer(), metrics);
+    }
+
+    private <T> void bind(Class<T> type, JsonSerializer<T> serializer, JsonDeserializer<T> deserializer, LambdaMetrics metrics) {
+        setMixInAnnotation(type, UnboundCodecs.class);
+        addSerializer(type, new TimedSerializer<>(type, serializer, metrics, metrics.jsonTimer("serialize", type)));
+        addDeserializer(type, new TimedDeserializer<>(type, deserializer, metrics, metrics.jsonTimer("deserialize", type)));
+    }
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    private interface UnboundCodecs {
+    }
+
+    private static final class TimedSerializer<T> extends StdSerializer<T> {
+
+        private final JsonSerializer<T> codec;
+        private final LambdaMetrics metrics;
+        private final Timer timer;
+
+        TimedSerializer(Class<T> type, JsonSerializer<T> codec, LambdaMetrics metrics, Timer timer) {
+            super(type);
+            this.codec = codec;
+            this.metrics = metrics;
+            this.timer = timer;
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            long start = System.nanoTime();
+            codec.serialize(value, generator, provider);
+            metrics.record(timer, start);
+        }
+    }
+
+    private static final class TimedDeserializer<T> extends StdDeserializer<T> {
+
+        private final JsonDeserializer<T> codec;
+        private final LambdaMetrics metrics;
+        private final Timer timer;
+
+        TimedDeserializer(Class<T> type, JsonDeserializer<T> codec, LambdaMetrics metrics, Timer timer) {
+            super(type);
+            this.codec = codec;
+            this.metrics = metrics;
+            this.timer = timer;
+        }
+
+        @Override
+        public T deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            long start = System.nanoTime();
+            T value = codec.deserialize(parser, context);
+            metrics.record(timer, start);
+            return value;
+        }
+    }
+}
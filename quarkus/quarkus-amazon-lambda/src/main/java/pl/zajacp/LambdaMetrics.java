@@ -0,0 +1,116 @@
+package pl.zajacp;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hot-path meters of the handlers, registered with the global registry, which is the root registry in Quarkus
+ * and feeds the {@link EmfMeterRegistry}. Handlers look their meters up once, so recording costs two
+ * {@code nanoTime} calls and a few adder increments; only the error path looks its counter up per call.
+ * <p>
+ * JSON binding is timed by the {@link JsonMetricsModule}, which the application's {@code ObjectMapper} gets through
+ * {@link JsonMetricsCustomizer}.
+ * <p>
+ * Synthetic traffic such as checkpoint priming runs inside {@link #withoutRecording(Runnable)}, so it never
+ * shows up as invocations or errors. Only the calling thread is muted, so real invocations served meanwhile are
+ * still recorded; while no thread is muted, recording does not even look at the thread.
+ */
+@ApplicationScoped
+public class LambdaMetrics {
+
+    private final MeterRegistry registry;
+    private final ThreadLocal<Boolean> muted = new ThreadLocal<>();
+    private final AtomicInteger mutedThreads = new AtomicInteger();
+
+    LambdaMetrics() {
+        this(Metrics.globalRegistry);
+    }
+
+    LambdaMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Timer invocationTimer(String handler) {
+        return Timer.builder("lambda.invocation")
+                .tag("handler", handler)
+                .register(registry);
+    }
+
+    public Timer processTimer() {
+        return Timer.builder("lambda.stage")
+                .tag("stage", "process")
+                .register(registry);
+    }
+
+    public Counter bytesCounter(String handler, String direction) {
+        return Counter.builder("lambda.bytes")
+                .baseUnit("bytes")
+                .tag("handler", handler)
+                .tag("direction", direction)
+                .register(registry);
+    }
+
+    public void error(String handler, Throwable error) {
+        if (isMuted()) {
+            return;
+        }
+        registry.counter("lambda.errors", "handler", handler, "exception", error.getClass().getSimpleName()).increment();
+    }
+
+    /**
+     * Publishes the hit and miss counts and the size of {@code cache}, read from it whenever the registry publishes.
+     */
+    public void bindCache(ResultCache cache) {
+        FunctionCounter.builder("processing.cache.hits", cache, c -> c.stats().hits())
+                .register(registry);
+        FunctionCounter.builder("processing.cache.misses", cache, c -> c.stats().misses())
+                .register(registry);
+        Gauge.builder("processing.cache.size", cache, c -> c.stats().size())
+                .register(registry);
+    }
+
+    public Timer jsonTimer(String stage, Class<?> type) {
+        return Timer.builder("lambda.stage")
+                .tag("stage", stage)
+                .tag("type", type.getSimpleName())
+                .register(registry);
+    }
+
+    public void record(Timer timer, long startNanos) {
+        if (!isMuted()) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Runs {@code action} with {@link #record} and {@link #error} turned into no-ops on the calling thread; nested
+     * calls keep it muted until the outermost one returns.
+     */
+    public void withoutRecording(Runnable action) {
+        if (muted.get() != null) {
+            action.run();
+            return;
+        }
+        muted.set(Boolean.TRUE);
+        mutedThreads.incrementAndGet();
+        try {
+            action.run();
+        } finally {
+            mutedThreads.decrementAndGet();
+            muted.remove();
+        }
+    }
+
+    private boolean isMuted() {
+        return mutedThreads.get() != 0 && muted.get() != null;
+    }
+}
@@ -1,26 +1,78 @@
 package pl.zajacp;
 
-public class OutputObject {
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
-    private String result;
+import java.io.IOException;
 
-    private String requestId;
+/**
+ * Bound by the hand-written {@link Serializer}/{@link Deserializer} pair, see {@link InputObject}.
+ */
+@JsonSerialize(using = OutputObject.Serializer.class)
+@JsonDeserialize(using = OutputObject.Deserializer.class)
+public record OutputObject(String result, String requestId) {
 
-    public String getResult() {
-        return result;
+    public OutputObject(String result) {
+        this(result, null);
     }
 
-    public String getRequestId() {
-        return requestId;
+    public OutputObject withRequestId(String requestId) {
+        return new OutputObject(result, requestId);
     }
 
-    public OutputObject setResult(String result) {
-        this.result = result;
-        return this;
+    public static final class Serializer extends StdSerializer<OutputObject> {
+
+        public Serializer() {
+            super(OutputObject.class);
+        }
+
+        @Override
+        public void serialize(OutputObject value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartObject(value);
+            generator.writeStringField("result", value.result());
+            generator.writeStringField("requestId", value.requestId());
+            generator.writeEndObject();
+        }
     }
 
-    public OutputObject setRequestId(String requestId) {
-        this.requestId = requestId;
-        return this;
+    public static final class Deserializer extends StdDeserializer<OutputObject> {
+
+        public Deserializer() {
+            super(OutputObject.class);
+        }
+
+        @Override
+        public OutputObject deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (!parser.isExpectedStartObjectToken()) {
+                return (OutputObject) context.handleUnexpectedToken(OutputObject.class, parser);
+            }
+            String result = null;
+            String requestId = null;
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                parser.nextToken();
+                switch (field) {
+                    case "result" -> result = readString(parser, context);
+                    case "requestId" -> requestId = readString(parser, context);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new OutputObject(result, requestId);
+        }
+
+        /**
+         * Objects and arrays are rejected like the reflective binding did, rather than read from the inside.
+         */
+        private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.currentToken().isScalarValue()) {
+                return parser.getValueAsString();
+            }
+            return (String) context.handleUnexpectedToken(String.class, parser);
+        }
     }
 }
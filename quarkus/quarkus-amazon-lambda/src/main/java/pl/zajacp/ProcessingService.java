@@ -1,19 +1,56 @@
 package pl.zajacp;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.function.Function;
 
 @ApplicationScoped
+// cached failures are recreated through their (String) constructor
+@RegisterForReflection(targets = IllegalArgumentException.class)
 public class ProcessingService {
 
     public static final String CAN_ONLY_GREET_NICKNAMES = "Can only greet nicknames";
 
+    @Inject
+    LambdaMetrics metrics;
+
+    @ConfigProperty(name = "processing.cache.enabled", defaultValue = "false")
+    boolean cacheEnabled;
+
+    @ConfigProperty(name = "processing.cache.capacity", defaultValue = "1024")
+    int cacheCapacity;
+
+    @ConfigProperty(name = "processing.cache.ttl", defaultValue = "PT5M")
+    Duration cacheTtl;
+
+    private final Function<InputObject, OutputObject> compute = this::compute;
+    private ResultCache cache;
+
+    @PostConstruct
+    void init() {
+        if (cacheEnabled) {
+            cache = new ResultCache(cacheCapacity, cacheTtl);
+            metrics.bindCache(cache);
+        }
+    }
+
     public OutputObject process(InputObject input) {
-        if (input.getName().equals("Stuart")) {
+        if (cache == null) {
+            return compute(input);
+        }
+        return cache.get(input, compute);
+    }
+
+    private OutputObject compute(InputObject input) {
+        if (input.name().equals("Stuart")) {
             throw new IllegalArgumentException(CAN_ONLY_GREET_NICKNAMES);
         }
-        String result = input.getGreeting() + " " + input.getName();
-        OutputObject out = new OutputObject();
-        out.setResult(result);
-        return out;
+        return new OutputObject(input.greeting() + " " + input.name());
     }
 }
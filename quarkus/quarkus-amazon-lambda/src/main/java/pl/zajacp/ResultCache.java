@@ -0,0 +1,110 @@
+package pl.zajacp;
+
+import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of {@link ProcessingService} outcomes keyed by the (greeting, name) {@link InputObject} record
+ * itself: least recently used entries are evicted beyond {@code capacity}, and entries older than {@code ttl} are
+ * recomputed on their next lookup. Failures are cached as their type and message: the lookup that computed one
+ * throws the original exception and every hit throws a new instance, so no exception object is shared between
+ * requests. Failures whose type has no public {@code (String)} constructor are not cached.
+ */
+public final class ResultCache {
+
+    public record Stats(long hits, long misses, int size) {
+    }
+
+    private record Entry(OutputObject result, Failure failure, long expiresAt) {
+    }
+
+    private record Failure(Constructor<? extends RuntimeException> type, String message) {
+
+        static Failure of(RuntimeException failure) {
+            try {
+                return new Failure(failure.getClass().getConstructor(String.class), failure.getMessage());
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        RuntimeException newInstance() {
+            try {
+                return type.newInstance(message);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot recreate cached " + type.getDeclaringClass().getName(), e);
+            }
+        }
+    }
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<InputObject, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResultCache(int capacity, Duration ttl) {
+        this(capacity, ttl, System::nanoTime);
+    }
+
+    ResultCache(int capacity, Duration ttl, LongSupplier nanoClock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("'capacity' must be greater than zero");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("'ttl' must be positive");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<InputObject, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public OutputObject get(InputObject input, Function<InputObject, OutputObject> process) {
+        long now = nanoClock.getAsLong();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(input);
+        }
+        if (entry != null && now - entry.expiresAt() < 0) {
+            hits.increment();
+            if (entry.failure() != null) {
+                throw entry.failure().newInstance();
+            }
+            return entry.result();
+        }
+        misses.increment();
+        try {
+            OutputObject result = process.apply(input);
+            put(input, new Entry(result, null, now + ttlNanos));
+            return result;
+        } catch (RuntimeException e) {
+            Failure failure = Failure.of(e);
+            if (failure != null) {
+                put(input, new Entry(null, failure, now + ttlNanos));
+            }
+            throw e;
+        }
+    }
+
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), entries.size());
+        }
+    }
+
+    private void put(InputObject input, Entry entry) {
+        synchronized (entries) {
+            entries.put(input, entry);
+        }
+    }
+}
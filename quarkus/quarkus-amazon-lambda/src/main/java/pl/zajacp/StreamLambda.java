@@ -1,24 +1,58 @@
 package pl.zajacp;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.IOException;
+import java.time.Duration;
 
 
 @Named("stream")
 public class StreamLambda implements RequestStreamHandler {
 
+    @Inject
+    LambdaMetrics metrics;
+
+    @ConfigProperty(name = "stream.flush.bytes", defaultValue = "0")
+    long flushBytes;
+
+    @ConfigProperty(name = "stream.flush.interval", defaultValue = "PT0S")
+    Duration flushInterval;
+
+    private FlushPolicy flushPolicy;
+    private Timer invocationTimer;
+    private Counter bytesIn;
+    private Counter bytesOut;
+
+    @PostConstruct
+    void init() {
+        invocationTimer = metrics.invocationTimer("stream");
+        bytesIn = metrics.bytesCounter("stream", "in");
+        bytesOut = metrics.bytesCounter("stream", "out");
+        flushPolicy = new FlushPolicy(flushBytes, flushInterval);
+    }
+
     @Override
     public void handleRequest(InputStream inputStream, OutputStream outputStream, Context context) throws IOException {
-        int letter;
-        while ((letter = inputStream.read()) != -1) {
-            int character = Character.toUpperCase(letter);
-            outputStream.write(character);
+        long start = System.nanoTime();
+        try {
+            UpperCaseTranscoder.Transcoded transcoded = UpperCaseTranscoder.transcode(inputStream, outputStream, flushPolicy);
+            bytesIn.increment(transcoded.bytesRead());
+            bytesOut.increment(transcoded.bytesWritten());
+        } catch (IOException | RuntimeException e) {
+            metrics.error("stream", e);
+            throw e;
+        } finally {
+            metrics.record(invocationTimer, start);
         }
     }
 }
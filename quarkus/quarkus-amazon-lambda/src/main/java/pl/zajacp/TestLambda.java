@@ -1,10 +1,12 @@
 package pl.zajacp;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import io.micrometer.core.instrument.Timer;
 
 @Named("test")
 public class TestLambda implements RequestHandler<InputObject, OutputObject> {
@@ -12,8 +14,30 @@ public class TestLambda implements RequestHandler<InputObject, OutputObject> {
     @Inject
     ProcessingService service;
 
+    @Inject
+    LambdaMetrics metrics;
+
+    private Timer invocationTimer;
+    private Timer processTimer;
+
+    @PostConstruct
+    void init() {
+        invocationTimer = metrics.invocationTimer("test");
+        processTimer = metrics.processTimer();
+    }
+
     @Override
     public OutputObject handleRequest(InputObject input, Context context) {
-        return service.process(input).setRequestId(context.getAwsRequestId());
+        long start = System.nanoTime();
+        try {
+            OutputObject output = service.process(input);
+            metrics.record(processTimer, start);
+            return output.withRequestId(context.getAwsRequestId());
+        } catch (RuntimeException e) {
+            metrics.error("test", e);
+            throw e;
+        } finally {
+            metrics.record(invocationTimer, start);
+        }
     }
 }
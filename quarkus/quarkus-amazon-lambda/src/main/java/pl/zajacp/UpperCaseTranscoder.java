@@ -0,0 +1,200 @@
+package pl.zajacp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Upper-cases a UTF-8 byte stream chunk by chunk.
+ * <p>
+ * Pure-ASCII runs are handled eight bytes at a time: each {@code long} word is checked for non-ASCII bytes
+ * and, if there are none, all its lower-case letters are flipped at once with a few branch-free bit operations.
+ * Anything else is decoded as UTF-8, upper-cased per code point and encoded back. Sequences cut at a chunk
+ * boundary are carried over to the next chunk; malformed bytes are copied through untouched.
+ * <p>
+ * Each chunk is written out as soon as it was read, whatever the input had available, and only one chunk is held
+ * at a time: a slow consumer blocks {@code write}, which in turn stops reading. When the output is flushed is up
+ * to the {@link FlushPolicy}.
+ */
+public final class UpperCaseTranscoder {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final VarHandle WORD = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long FROM_A = 0x1F1F1F1F1F1F1F1FL;       // 0x80 - 'a'
+    private static final long PAST_Z = 0x0505050505050505L;       // 0x80 - ('z' + 1)
+
+    private UpperCaseTranscoder() {
+    }
+
+    public record Transcoded(long bytesRead, long bytesWritten) {
+    }
+
+    public static Transcoded transcode(InputStream input, OutputStream output) throws IOException {
+        return transcode(input, output, FlushPolicy.AT_END);
+    }
+
+    public static Transcoded transcode(InputStream input, OutputStream output, FlushPolicy flushPolicy) throws IOException {
+        long bytesRead = 0;
+        long bytesWritten = 0;
+        long unflushed = 0;
+        long lastFlush = System.nanoTime();
+        byte[] in = new byte[CHUNK_SIZE];
+        // a code point never grows by more than half when upper-cased, plus room for one word
+        byte[] out = new byte[CHUNK_SIZE + CHUNK_SIZE / 2 + Long.BYTES];
+        int carried = 0;
+        int read;
+        while ((read = input.read(in, carried, in.length - carried)) >= 0) {
+            bytesRead += read;
+            int limit = carried + read;
+            int[] positions = transcode(in, limit, false, out);
+            output.write(out, 0, positions[1]);
+            bytesWritten += positions[1];
+            unflushed += positions[1];
+            carried = limit - positions[0];
+            System.arraycopy(in, positions[0], in, 0, carried);
+            long now = System.nanoTime();
+            if (flushPolicy.due(unflushed, now - lastFlush)) {
+                output.flush();
+                unflushed = 0;
+                lastFlush = now;
+            }
+        }
+        // whatever is left is a sequence the input never completed
+        if (carried > 0) {
+            output.write(in, 0, carried);
+            bytesWritten += carried;
+        }
+        output.flush();
+        return new Transcoded(bytesRead, bytesWritten);
+    }
+
+    /**
+     * Transcodes {@code in[0, limit)} into {@code out}, stopping before a multi-byte sequence that may continue
+     * in the next chunk unless {@code last} is set.
+     *
+     * @return the number of bytes consumed and produced
+     */
+    static int[] transcode(byte[] in, int limit, boolean last, byte[] out) {
+        int i = 0;
+        int o = 0;
+        while (i < limit) {
+            if (i + Long.BYTES <= limit) {
+                long word = (long) WORD.get(in, i);
+                if ((word & HIGH_BITS) == 0) {
+                    WORD.set(out, o, upperCaseAscii(word));
+                    i += Long.BYTES;
+                    o += Long.BYTES;
+                    continue;
+                }
+            }
+            int b = in[i];
+            if (b >= 0) {
+                out[o++] = (byte) upperCaseAscii(b);
+                i++;
+                continue;
+            }
+            int length = sequenceLength(b);
+            if (length == 0) {
+                out[o++] = (byte) b;
+                i++;
+                continue;
+            }
+            if (i + length > limit) {
+                if (!last && completableAt(in, i, limit)) {
+                    break;
+                }
+                out[o++] = (byte) b;
+                i++;
+                continue;
+            }
+            int codePoint = decode(in, i, length);
+            if (codePoint < 0) {
+                out[o++] = (byte) b;
+                i++;
+                continue;
+            }
+            o = encode(Character.toUpperCase(codePoint), out, o);
+            i += length;
+        }
+        return new int[]{i, o};
+    }
+
+    /**
+     * Flips every {@code a-z} byte of an all-ASCII word; adding to a byte below {@code 0x80} never carries
+     * into its neighbour, so the high bit of each sum tells whether the byte reached the bound.
+     */
+    static long upperCaseAscii(long word) {
+        long lower = (word + FROM_A) & ~(word + PAST_Z) & HIGH_BITS;
+        return word ^ (lower >>> 2);
+    }
+
+    static int upperCaseAscii(int c) {
+        return c ^ ((('a' - 1 - c) & (c - 'z' - 1)) >>> 31 << 5);
+    }
+
+    private static int sequenceLength(int lead) {
+        if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        }
+        if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        }
+        if ((lead & 0xF8) == 0xF0) {
+            return 4;
+        }
+        return 0;
+    }
+
+    private static boolean completableAt(byte[] in, int start, int limit) {
+        for (int i = start + 1; i < limit; i++) {
+            if ((in[i] & 0xC0) != 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the code point, or {@code -1} for an invalid, overlong or surrogate sequence
+     */
+    private static int decode(byte[] in, int start, int length) {
+        int codePoint = in[start] & (0x7F >> length);
+        for (int i = start + 1; i < start + length; i++) {
+            if ((in[i] & 0xC0) != 0x80) {
+                return -1;
+            }
+            codePoint = codePoint << 6 | in[i] & 0x3F;
+        }
+        int min = length == 2 ? 0x80 : length == 3 ? 0x800 : 0x10000;
+        if (codePoint < min || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            return -1;
+        }
+        return codePoint;
+    }
+
+    private static int encode(int codePoint, byte[] out, int o) {
+        if (codePoint < 0x80) {
+            out[o++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            out[o++] = (byte) (0xC0 | codePoint >> 6);
+            out[o++] = (byte) (0x80 | codePoint & 0x3F);
+        } else if (codePoint < 0x10000) {
+            out[o++] = (byte) (0xE0 | codePoint >> 12);
+            out[o++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            out[o++] = (byte) (0x80 | codePoint & 0x3F);
+        } else {
+            out[o++] = (byte) (0xF0 | codePoint >> 18);
+            out[o++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            out[o++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            out[o++] = (byte) (0x80 | codePoint & 0x3F);
+        }
+        return o;
+    }
+}
@@ -0,0 +1,105 @@
+package pl.zajacp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Serial vs parallel {@link BatchLambda} over a batch of records. {@code work} burns CPU inside
+ * {@link ProcessingService#process} to stand in for a heavier per-record workload; at {@code 0} the
+ * records are trivial and the parallel mode only pays its hand-off cost.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=pl.zajacp.BatchLambdaBenchmark},
+ * or straight from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchLambdaBenchmark {
+
+    @Param({"serial", "parallel"})
+    public String mode;
+
+    @Param({"0", "10000"})
+    public long work;
+
+    @Param({"10000"})
+    public int records;
+
+    private BatchLambda lambda;
+    private byte[] input;
+    private ByteArrayOutputStream output;
+    private TestContext context;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BatchLambdaBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setup() {
+        long tokens = work;
+        lambda = new BatchLambda();
+        lambda.mapper = new ObjectMapper();
+        lambda.mode = BatchLambda.BatchMode.valueOf(mode.toUpperCase());
+        lambda.service = new ProcessingService() {
+            @Override
+            public OutputObject process(InputObject input) {
+                Blackhole.consumeCPU(tokens);
+                return super.process(input);
+            }
+        };
+        lambda.executor = new BatchExecutor();
+        lambda.executor.concurrency = OptionalInt.empty();
+        lambda.executor.start();
+        lambda.metrics = new LambdaMetrics();
+        lambda.init();
+        input = IntStream.range(0, records)
+                .mapToObj(i -> "{\"name\": \"Stu" + i + "\", \"greeting\": \"Hello\"}")
+                .collect(Collectors.joining("\n"))
+                .getBytes(StandardCharsets.UTF_8);
+        output = new ByteArrayOutputStream(input.length * 2);
+        context = new TestContext("benchmark");
+    }
+
+    @TearDown
+    public void tearDown() {
+        lambda.executor.stop();
+    }
+
+    @Benchmark
+    public int batch() throws IOException {
+        output.reset();
+        lambda.handleRequest(new ByteArrayInputStream(input), output, context);
+        return output.size();
+    }
+}
@@ -0,0 +1,101 @@
+package pl.zajacp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchLambdaTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private BatchLambda lambda;
+
+    @BeforeEach
+    public void setUp() {
+        lambda = new BatchLambda();
+        lambda.service = new ProcessingService();
+        lambda.mapper = new ObjectMapper();
+        lambda.mode = BatchLambda.BatchMode.SERIAL;
+        lambda.executor = new BatchExecutor();
+        lambda.executor.concurrency = OptionalInt.of(4);
+        lambda.executor.start();
+        lambda.metrics = new LambdaMetrics(registry);
+        lambda.init();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        lambda.executor.stop();
+    }
+
+    @Test
+    public void testEveryRecordIsProcessed() throws Exception {
+        String output = invoke("""
+                {"name": "Stu", "greeting": "Hello"}
+
+                {"name": "Bill", "greeting": "hi"}
+                """);
+
+        assertEquals("""
+                {"result":"Hello Stu","requestId":"req-1"}
+                {"result":"hi Bill","requestId":"req-1"}
+                """, output);
+    }
+
+    @Test
+    public void testFailingRecordsDoNotAbortTheBatch() throws Exception {
+        String output = invoke("""
+                {"name": "Stuart", "greeting": "Hello"}
+                not json
+                {"name": "Stu", "greeting": "Hello"}""");
+
+        String[] lines = output.split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"line\":1,\"error\":\"IllegalArgumentException\",\"message\":\"" + ProcessingService.CAN_ONLY_GREET_NICKNAMES + "\"}", lines[0]);
+        assertTrue(lines[1].startsWith("{\"line\":2,\"error\":\"JsonParseException\""));
+        assertEquals("{\"result\":\"Hello Stu\",\"requestId\":\"req-1\"}", lines[2]);
+        assertEquals(1, registry.counter("lambda.errors", "handler", "batch", "exception", "IllegalArgumentException").count());
+        assertEquals(1, registry.counter("lambda.errors", "handler", "batch", "exception", "JsonParseException").count());
+        assertEquals(1, registry.timer("lambda.invocation", "handler", "batch").count());
+    }
+
+    @Test
+    public void testEmptyBatchYieldsNoOutput() throws Exception {
+        assertEquals("", invoke(""));
+    }
+
+    @Test
+    public void testParallelModeKeepsInputOrder() throws Exception {
+        String input = IntStream.range(0, 1000)
+                .mapToObj(i -> i % 7 == 0
+                        ? "{\"name\": \"Stuart\", \"greeting\": \"Hello\"}"
+                        : "{\"name\": \"Stu" + i + "\", \"greeting\": \"Hello\"}")
+                .collect(Collectors.joining("\n"));
+        String serial = invoke(input);
+
+        lambda.mode = BatchLambda.BatchMode.PARALLEL;
+        String parallel = invoke(input);
+
+        assertEquals(serial, parallel);
+        assertEquals(1000, parallel.lines().count());
+    }
+
+    private String invoke(String input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        lambda.handleRequest(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output, new TestContext("req-1"));
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
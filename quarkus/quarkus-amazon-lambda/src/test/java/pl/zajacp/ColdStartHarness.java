@@ -0,0 +1,324 @@
+package pl.zajacp;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Boots the built runners against a local stand-in of the Lambda Runtime API, N times each, and reports
+ * time to the first response, resident memory at that point and, for JVM runners, the number of loaded classes.
+ * <p>
+ * Runners are given as {@code label=path}: a {@code .jar} is started with the current {@code java}, anything
+ * else is executed as a native binary. Without runners, {@code target/quarkus-app/quarkus-run.jar} and the native
+ * {@code target/*-runner} (if built) are used. See the readme for the options.
+ */
+public class ColdStartHarness {
+
+    private static final String RUNTIME_API = "/2018-06-01/runtime";
+    private static final String CSV_HEADER = "runner,boot,ok,first_response_ms,rss_kb,peak_rss_kb,loaded_classes";
+
+    record Runner(String label, Path path) {
+        boolean jvm() {
+            return path.toString().endsWith(".jar");
+        }
+    }
+
+    record Boot(String runner, int boot, boolean ok, double firstResponseMs, long rssKb, long peakRssKb, long loadedClasses) {
+        String toCsv() {
+            return String.format(Locale.ROOT, "%s,%d,%b,%.2f,%d,%d,%d", runner, boot, ok, firstResponseMs, rssKb, peakRssKb, loadedClasses);
+        }
+
+        static Boot fromCsv(String line) {
+            String[] columns = line.split(",");
+            return new Boot(columns[0], Integer.parseInt(columns[1]), Boolean.parseBoolean(columns[2]), Double.parseDouble(columns[3]),
+                    Long.parseLong(columns[4]), Long.parseLong(columns[5]), Long.parseLong(columns[6]));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int boots = 10;
+        Path payload = Paths.get("payload.json");
+        Path out = Paths.get("target/cold-start/report.csv");
+        Path baseline = null;
+        long timeoutSeconds = 60;
+        List<String> jvmOptions = new ArrayList<>();
+        Map<String, String> environment = new LinkedHashMap<>();
+        List<Runner> runners = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--boots" -> boots = Integer.parseInt(args[++i]);
+                case "--payload" -> payload = Paths.get(args[++i]);
+                case "--out" -> out = Paths.get(args[++i]);
+                case "--baseline" -> baseline = Paths.get(args[++i]);
+                case "--timeout" -> timeoutSeconds = Long.parseLong(args[++i]);
+                case "--jvm-opt" -> jvmOptions.add(args[++i]);
+                case "--env" -> {
+                    String[] entry = args[++i].split("=", 2);
+                    environment.put(entry[0], entry[1]);
+                }
+                default -> {
+                    String[] runner = args[i].split("=", 2);
+                    if (runner.length != 2) {
+                        throw new IllegalArgumentException("Expected 'label=path' but got: " + args[i]);
+                    }
+                    runners.add(new Runner(runner[0], Paths.get(runner[1])));
+                }
+            }
+        }
+        if (runners.isEmpty()) {
+            runners = defaultRunners();
+        }
+        if (runners.isEmpty()) {
+            throw new IllegalStateException("Nothing to boot, build the module first (mvn package [-Dnative])");
+        }
+
+        byte[] event = Files.readAllBytes(payload);
+        Path logs = out.toAbsolutePath().getParent();
+        Files.createDirectories(logs);
+        List<Boot> results = new ArrayList<>();
+        for (Runner runner : runners) {
+            for (int boot = 1; boot <= boots; boot++) {
+                Boot result = boot(runner, boot, event, jvmOptions, environment, logs, timeoutSeconds);
+                System.out.println(result.toCsv());
+                results.add(result);
+            }
+        }
+
+        Files.write(out, Stream.concat(Stream.of(CSV_HEADER), results.stream().map(Boot::toCsv)).collect(Collectors.toList()));
+        System.out.println();
+        System.out.println("Raw results: " + out);
+        report(results, baseline == null ? List.of() : readCsv(baseline));
+    }
+
+    private static List<Runner> defaultRunners() throws IOException {
+        List<Runner> runners = new ArrayList<>();
+        Path jar = Paths.get("target/quarkus-app/quarkus-run.jar");
+        if (Files.exists(jar)) {
+            runners.add(new Runner("jvm", jar));
+        }
+        if (Files.isDirectory(Paths.get("target"))) {
+            try (Stream<Path> files = Files.list(Paths.get("target"))) {
+                files.filter(file -> file.getFileName().toString().endsWith("-runner") && Files.isExecutable(file))
+                        .findFirst()
+                        .ifPresent(binary -> runners.add(new Runner("native", binary)));
+            }
+        }
+        return runners;
+    }
+
+    static Boot boot(Runner runner, int boot, byte[] event, List<String> jvmOptions, Map<String, String> environment,
+                     Path logs, long timeoutSeconds) throws IOException, InterruptedException {
+        Path classLog = logs.resolve(runner.label() + "-" + boot + "-classes.log");
+        Files.deleteIfExists(classLog);
+        List<String> command = new ArrayList<>();
+        if (runner.jvm()) {
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.add("-Xlog:class+load=info:file=" + classLog);
+            command.addAll(jvmOptions);
+            command.add("-jar");
+        }
+        command.add(runner.path().toString());
+
+        try (RuntimeApi api = new RuntimeApi(event)) {
+            ProcessBuilder builder = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(logs.resolve(runner.label() + "-" + boot + ".log").toFile());
+            builder.environment().putAll(environment);
+            builder.environment().put("AWS_LAMBDA_RUNTIME_API", "127.0.0.1:" + api.port());
+
+            long start = System.nanoTime();
+            Process process = builder.start();
+            api.pid = process.pid();
+            try {
+                Invocation invocation = api.response.get(timeoutSeconds, TimeUnit.SECONDS);
+                long loadedClasses = runner.jvm() && Files.exists(classLog) ? countLines(classLog) : -1;
+                return new Boot(runner.label(), boot, invocation.ok(), (invocation.nanoTime() - start) / 1e6,
+                        invocation.rssKb(), invocation.peakRssKb(), loadedClasses);
+            } catch (TimeoutException | ExecutionException e) {
+                return new Boot(runner.label(), boot, false, -1, -1, -1, -1);
+            } finally {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static long countLines(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            return lines.count();
+        }
+    }
+
+    record Invocation(boolean ok, long nanoTime, long rssKb, long peakRssKb) {
+    }
+
+    /**
+     * Serves one event on {@code /invocation/next} and completes {@link #response} when the runner answers it.
+     * Further {@code /next} calls are held until the API is closed, as the real service would while idle.
+     */
+    static final class RuntimeApi implements AutoCloseable {
+
+        final CompletableFuture<Invocation> response = new CompletableFuture<>();
+        volatile long pid;
+
+        private final HttpServer server;
+        private final ExecutorService executor = Executors.newCachedThreadPool();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final byte[] event;
+        private boolean served;
+
+        RuntimeApi(byte[] event) throws IOException {
+            this.event = event;
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(executor);
+            server.createContext(RUNTIME_API, this::handle);
+            server.start();
+        }
+
+        int port() {
+            return server.getAddress().getPort();
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            try (exchange; InputStream body = exchange.getRequestBody()) {
+                String path = exchange.getRequestURI().getPath().substring(RUNTIME_API.length());
+                byte[] request = body.readAllBytes();
+                if (path.equals("/invocation/next")) {
+                    next(exchange);
+                } else if (path.endsWith("/response") || path.endsWith("/error")) {
+                    boolean ok = path.endsWith("/response");
+                    long now = System.nanoTime();
+                    if (!ok) {
+                        System.err.println("Runner reported an error on " + path + ": " + new String(request, StandardCharsets.UTF_8));
+                    }
+                    response.complete(new Invocation(ok, now, memoryKb("VmRSS"), memoryKb("VmHWM")));
+                    exchange.sendResponseHeaders(202, -1);
+                } else {
+                    exchange.sendResponseHeaders(404, -1);
+                }
+            }
+        }
+
+        private void next(HttpExchange exchange) throws IOException {
+            synchronized (this) {
+                if (served) {
+                    try {
+                        closed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return;
+                }
+                served = true;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Lambda-Runtime-Aws-Request-Id", UUID.randomUUID().toString());
+            exchange.getResponseHeaders().add("Lambda-Runtime-Deadline-Ms", Long.toString(System.currentTimeMillis() + 900_000));
+            exchange.getResponseHeaders().add("Lambda-Runtime-Invoked-Function-Arn", "arn:aws:lambda:local:000000000000:function:cold-start");
+            exchange.getResponseHeaders().add("Lambda-Runtime-Trace-Id", "Root=1-00000000-000000000000000000000000");
+            exchange.sendResponseHeaders(200, event.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(event);
+            }
+        }
+
+        /**
+         * @return the given {@code /proc/<pid>/status} field in kB, or {@code -1} where there is no procfs
+         */
+        private long memoryKb(String field) {
+            Path status = Paths.get("/proc", Long.toString(pid), "status");
+            try (Stream<String> lines = Files.lines(status)) {
+                return lines.filter(line -> line.startsWith(field + ":"))
+                        .map(line -> line.replaceAll("\\D", ""))
+                        .mapToLong(Long::parseLong)
+                        .findFirst()
+                        .orElse(-1);
+            } catch (IOException | UncheckedIOException e) {
+                return -1;
+            }
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Boot> readCsv(Path file) throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            return lines.skip(1).map(Boot::fromCsv).collect(Collectors.toList());
+        }
+    }
+
+    static void report(List<Boot> results, List<Boot> baseline) {
+        System.out.printf("%-16s %7s %22s %12s %12s %10s%n", "runner", "ok", "first response ms", "rss MB", "peak rss MB", "classes");
+        System.out.printf("%-16s %7s %22s %12s %12s %10s%n", "", "", "median (min..max)", "median", "median", "median");
+        Map<String, List<Boot>> byRunner = group(results);
+        Map<String, List<Boot>> baselineByRunner = group(baseline);
+        byRunner.forEach((runner, boots) -> {
+            List<Boot> ok = boots.stream().filter(Boot::ok).collect(Collectors.toList());
+            System.out.printf(Locale.ROOT, "%-16s %7s %8.1f (%.0f..%.0f) %12.1f %12.1f %10.0f%n", runner, ok.size() + "/" + boots.size(),
+                    median(ok, Boot::firstResponseMs), min(ok, Boot::firstResponseMs), max(ok, Boot::firstResponseMs),
+                    median(ok, boot -> boot.rssKb() / 1024.0), median(ok, boot -> boot.peakRssKb() / 1024.0),
+                    median(ok, Boot::loadedClasses));
+            List<Boot> before = baselineByRunner.getOrDefault(runner, List.of()).stream().filter(Boot::ok).collect(Collectors.toList());
+            if (!before.isEmpty() && !ok.isEmpty()) {
+                System.out.printf(Locale.ROOT, "%-16s %7s %21s %12s %12s %10s%n", "  vs baseline", "",
+                        change(ok, before, Boot::firstResponseMs), change(ok, before, Boot::rssKb),
+                        change(ok, before, Boot::peakRssKb), change(ok, before, Boot::loadedClasses));
+            }
+        });
+    }
+
+    private static Map<String, List<Boot>> group(List<Boot> boots) {
+        return boots.stream().collect(Collectors.groupingBy(Boot::runner, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private static String change(List<Boot> after, List<Boot> before, ToDoubleFunction<Boot> metric) {
+        double then = median(before, metric);
+        return then <= 0 ? "-" : String.format(Locale.ROOT, "%+.1f%%", (median(after, metric) / then - 1) * 100);
+    }
+
+    private static double median(List<Boot> boots, ToDoubleFunction<Boot> metric) {
+        double[] values = boots.stream().mapToDouble(metric).sorted().toArray();
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        int middle = values.length / 2;
+        return values.length % 2 == 1 ? values[middle] : (values[middle - 1] + values[middle]) / 2;
+    }
+
+    private static double min(List<Boot> boots, ToDoubleFunction<Boot> metric) {
+        return boots.stream().mapToDouble(metric).min().orElse(Double.NaN);
+    }
+
+    private static double max(List<Boot> boots, ToDoubleFunction<Boot> metric) {
+        return boots.stream().mapToDouble(metric).max().orElse(Double.NaN);
+    }
+}
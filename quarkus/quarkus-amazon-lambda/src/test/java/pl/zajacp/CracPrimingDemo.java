@@ -0,0 +1,37 @@
+package pl.zajacp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.crac.Core;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * First-invocation latency of {@link TestLambda} in a fresh JVM ({@code cold}) vs in a JVM restored from a
+ * checkpoint taken right after {@link HandlerPrimer} ran ({@code checkpoint}, then {@code java -XX:CRaCRestoreFrom}).
+ * Driven by {@code crac-priming.sh}, which needs a CRaC-enabled JDK.
+ */
+public class CracPrimingDemo {
+
+    private static final byte[] REQUEST = "{\"name\": \"Stu\", \"greeting\": \"Hello\"}".getBytes(StandardCharsets.UTF_8);
+
+    public static void main(String[] args) throws Exception {
+        TestLambda handler = new TestLambda();
+        handler.service = new ProcessingService();
+        handler.metrics = new LambdaMetrics();
+        handler.init();
+        ObjectMapper mapper = new ObjectMapper();
+
+        if (args.length > 0 && args[0].equals("checkpoint")) {
+            HandlerPrimer.prime(handler, mapper, handler.metrics, Integer.getInteger("iterations", 10_000));
+            Core.checkpointRestore();
+        }
+
+        long start = System.nanoTime();
+        InputObject input = mapper.readValue(REQUEST, InputObject.class);
+        byte[] response = mapper.writeValueAsBytes(handler.handleRequest(input, new TestContext("demo")));
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(new String(response, StandardCharsets.UTF_8));
+        System.out.printf("first invocation: %.3f ms%n", elapsed / 1e6);
+    }
+}
@@ -0,0 +1,81 @@
+package pl.zajacp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EmfMeterRegistryTest {
+
+    private final MockClock clock = new MockClock();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final EmfMeterRegistry registry = new EmfMeterRegistry(new EmfMeterRegistry.EmfConfig() {
+        @Override
+        public String get(String key) {
+            return null;
+        }
+
+        @Override
+        public Duration step() {
+            return Duration.ofMinutes(1);
+        }
+    }, clock, new PrintStream(output, true, StandardCharsets.UTF_8));
+
+    @AfterEach
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    public void testStepIsPublishedAsEmf() throws Exception {
+        LambdaMetrics metrics = new LambdaMetrics(registry);
+        Timer invocations = metrics.invocationTimer("test");
+        invocations.record(10, TimeUnit.MILLISECONDS);
+        invocations.record(30, TimeUnit.MILLISECONDS);
+        metrics.bytesCounter("stream", "in").increment(2048);
+        metrics.invocationTimer("batch");
+
+        clock.add(Duration.ofMinutes(1));
+        registry.publish();
+
+        List<JsonNode> lines = output.toString(StandardCharsets.UTF_8).lines()
+                .map(this::parse)
+                .collect(Collectors.toList());
+        assertEquals(2, lines.size());
+
+        JsonNode timer = lines.stream().filter(line -> line.has("handler") && line.get("handler").asText().equals("test")).findFirst().orElseThrow();
+        JsonNode directive = timer.get("_aws").get("CloudWatchMetrics").get(0);
+        assertEquals("quarkus-amazon-lambda", directive.get("Namespace").asText());
+        assertEquals("[[\"handler\"]]", directive.get("Dimensions").toString());
+        assertEquals("{\"Name\":\"lambda.invocation.count\",\"Unit\":\"Count\"}", directive.get("Metrics").get(0).toString());
+        assertEquals("{\"Name\":\"lambda.invocation.total\",\"Unit\":\"Milliseconds\"}", directive.get("Metrics").get(1).toString());
+        assertEquals(2, timer.get("lambda.invocation.count").asLong());
+        assertEquals(40, timer.get("lambda.invocation.total").asDouble());
+        assertEquals(30, timer.get("lambda.invocation.max").asDouble());
+
+        JsonNode bytes = lines.stream().filter(line -> line.has("direction")).findFirst().orElseThrow();
+        assertEquals("{\"Name\":\"lambda.bytes\",\"Unit\":\"Bytes\"}", bytes.get("_aws").get("CloudWatchMetrics").get(0).get("Metrics").get(0).toString());
+        assertEquals(2048, bytes.get("lambda.bytes").asDouble());
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return new ObjectMapper().readTree(line);
+        } catch (Exception e) {
+            throw new AssertionError(line, e);
+        }
+    }
+}
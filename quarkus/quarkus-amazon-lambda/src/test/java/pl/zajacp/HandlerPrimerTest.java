@@ -0,0 +1,46 @@
+package pl.zajacp;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HandlerPrimerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void testPrimingLeavesNoMetricsBehind() {
+        TestLambda handler = new TestLambda();
+        handler.service = new ProcessingService();
+        handler.metrics = new LambdaMetrics(registry);
+        handler.init();
+
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JsonMetricsModule(handler.metrics));
+
+        HandlerPrimer.prime(handler, mapper, handler.metrics, 100);
+
+        for (Meter meter : registry.getMeters()) {
+            assertEquals(0, count(meter), meter.getId().toString());
+        }
+
+        handler.handleRequest(new InputObject("Stu", "Hello"), new TestContext("req-1"));
+
+        assertEquals(1, registry.get("lambda.invocation").timer().count());
+    }
+
+    private static long count(Meter meter) {
+        if (meter instanceof Timer timer) {
+            return timer.count();
+        }
+        if (meter instanceof Counter counter) {
+            return (long) counter.count();
+        }
+        return 0;
+    }
+}
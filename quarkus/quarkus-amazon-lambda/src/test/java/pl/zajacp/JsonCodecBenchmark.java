@@ -0,0 +1,119 @@
+package pl.zajacp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binding of {@link InputObject}/{@link OutputObject} through their hand-written codecs vs the reflective bean
+ * binding they used to get, which is what Jackson falls back to with annotations switched off.
+ * <p>
+ * The {@code coldStart*} benchmarks run once per fresh JVM: a new mapper binding one request and one response,
+ * i.e. what the first invocation of a Lambda container pays.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=pl.zajacp.JsonCodecBenchmark},
+ * or straight from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    private static final byte[] INPUT = "{\"name\": \"Stu\", \"greeting\": \"Hello\"}".getBytes(StandardCharsets.UTF_8);
+    private static final OutputObject OUTPUT = new OutputObject("Hello Stu", "c0ffee00-1234-5678-9abc-def012345678");
+
+    private ObjectReader codecReader;
+    private ObjectWriter codecWriter;
+    private ObjectReader reflectiveReader;
+    private ObjectWriter reflectiveWriter;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonCodecBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setup() {
+        ObjectMapper codecs = new ObjectMapper();
+        codecReader = codecs.readerFor(InputObject.class);
+        codecWriter = codecs.writerFor(OutputObject.class);
+        ObjectMapper reflective = reflectiveMapper();
+        reflectiveReader = reflective.readerFor(InputObject.class);
+        reflectiveWriter = reflective.writerFor(OutputObject.class);
+    }
+
+    @Benchmark
+    public InputObject readCodec() throws IOException {
+        return codecReader.readValue(INPUT);
+    }
+
+    @Benchmark
+    public InputObject readReflective() throws IOException {
+        return reflectiveReader.readValue(INPUT);
+    }
+
+    @Benchmark
+    public byte[] writeCodec() throws IOException {
+        return codecWriter.writeValueAsBytes(OUTPUT);
+    }
+
+    @Benchmark
+    public byte[] writeReflective() throws IOException {
+        return reflectiveWriter.writeValueAsBytes(OUTPUT);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(20)
+    public byte[] coldStartCodec() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        InputObject input = mapper.readValue(INPUT, InputObject.class);
+        return mapper.writeValueAsBytes(new OutputObject(input.greeting() + " " + input.name()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(20)
+    public byte[] coldStartReflective() throws IOException {
+        ObjectMapper mapper = reflectiveMapper();
+        InputObject input = mapper.readValue(INPUT, InputObject.class);
+        return mapper.writeValueAsBytes(new OutputObject(input.greeting() + " " + input.name()));
+    }
+
+    private static ObjectMapper reflectiveMapper() {
+        return JsonMapper.builder()
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .build();
+    }
+}
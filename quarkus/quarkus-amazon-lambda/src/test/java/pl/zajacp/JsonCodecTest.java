@@ -0,0 +1,76 @@
+package pl.zajacp;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JsonCodecTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testInputObjectRoundTrip() throws Exception {
+        InputObject input = new InputObject("Stu", "Hello");
+
+        String json = mapper.writeValueAsString(input);
+
+        assertEquals("{\"name\":\"Stu\",\"greeting\":\"Hello\"}", json);
+        assertEquals(input, mapper.readValue(json, InputObject.class));
+    }
+
+    @Test
+    public void testOutputObjectRoundTrip() throws Exception {
+        OutputObject output = new OutputObject("Hello Stu").withRequestId("req-1");
+
+        String json = mapper.writeValueAsString(output);
+
+        assertEquals("{\"result\":\"Hello Stu\",\"requestId\":\"req-1\"}", json);
+        assertEquals(output, mapper.readValue(json, OutputObject.class));
+        assertEquals("{\"result\":\"Hello Stu\",\"requestId\":null}", mapper.writeValueAsString(new OutputObject("Hello Stu")));
+    }
+
+    @Test
+    public void testUnknownAndMissingFieldsAreTolerated() throws Exception {
+        InputObject input = mapper.readValue("{\"extra\": {\"nested\": [1, 2]}, \"greeting\": \"hi\", \"name\": null}", InputObject.class);
+
+        assertEquals(new InputObject(null, "hi"), input);
+    }
+
+    @Test
+    public void testNestedValueInKnownFieldIsRejected() {
+        assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue("{\"name\": {\"greeting\": \"evil\"}, \"greeting\": \"Hello\"}", InputObject.class));
+        assertThrows(MismatchedInputException.class,
+                () -> mapper.readValue("{\"result\": [\"evil\"], \"requestId\": \"req-1\"}", OutputObject.class));
+    }
+
+    @Test
+    public void testScalarsAreReadAsStrings() throws Exception {
+        assertEquals(new InputObject("42", "true"), mapper.readValue("{\"name\": 42, \"greeting\": true}", InputObject.class));
+    }
+
+    @Test
+    public void testNonObjectIsRejected() {
+        assertThrows(MismatchedInputException.class, () -> mapper.readValue("[\"Stu\"]", InputObject.class));
+    }
+
+    @Test
+    public void testMetricsModuleTimesTheSameCodecs() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ObjectMapper timed = new ObjectMapper().registerModule(new JsonMetricsModule(new LambdaMetrics(registry)));
+        String json = "{\"name\": 42, \"greeting\": \"Hello\", \"extra\": [1]}";
+        OutputObject output = new OutputObject("Hello Stu").withRequestId("req-1");
+
+        assertEquals(mapper.readValue(json, InputObject.class), timed.readValue(json, InputObject.class));
+        assertEquals(mapper.writeValueAsString(output), timed.writeValueAsString(output));
+        assertThrows(MismatchedInputException.class, () -> timed.readValue("[\"Stu\"]", InputObject.class));
+
+        assertEquals(1, registry.get("lambda.stage").tags("stage", "deserialize", "type", "InputObject").timer().count());
+        assertEquals(1, registry.get("lambda.stage").tags("stage", "serialize", "type", "OutputObject").timer().count());
+    }
+}
@@ -0,0 +1,49 @@
+package pl.zajacp;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.QuarkusTestProfile;
+import io.quarkus.test.junit.TestProfile;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+
+/**
+ * Same setup as {@link LambdaHandlerTest}, but on an application of its own (a distinct test profile restarts
+ * Quarkus), so the first invocation below is the first one this application serves and pays for class
+ * initialization and JSON binding setup. Only runs with {@code mvn test -Pcold-start}.
+ */
+@QuarkusTest
+@TestProfile(LambdaColdStartTest.ColdStart.class)
+@EnabledIfSystemProperty(named = "cold-start-test", matches = "true")
+public class LambdaColdStartTest {
+
+    public static class ColdStart implements QuarkusTestProfile {
+    }
+
+    @Test
+    public void testFirstInvocationLatency() {
+        long first = invoke();
+        long warm = Long.MAX_VALUE;
+        for (int i = 0; i < 100; i++) {
+            warm = Math.min(warm, invoke());
+        }
+        System.out.printf("first invocation: %.2f ms, best warm invocation: %.2f ms%n", first / 1e6, warm / 1e6);
+    }
+
+    private long invoke() {
+        long start = System.nanoTime();
+        given()
+                .contentType("application/json")
+                .accept("application/json")
+                .body(new InputObject("Stu", "Hello"))
+                .when()
+                .post()
+                .then()
+                .statusCode(200)
+                .body(containsString("Hello Stu"));
+        return System.nanoTime() - start;
+    }
+}
@@ -15,9 +15,7 @@ public class LambdaHandlerTest {
         // you test your lambdas by invoking on http://localhost:8081
         // this works in dev mode too
 
-        InputObject in = new InputObject();
-        in.setName("Stu");
-        in.setGreeting("Hello");
+        InputObject in = new InputObject("Stu", "Hello");
         given()
                 .contentType("application/json")
                 .accept("application/json")
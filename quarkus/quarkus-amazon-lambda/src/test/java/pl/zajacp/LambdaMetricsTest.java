@@ -0,0 +1,51 @@
+package pl.zajacp;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LambdaMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final LambdaMetrics metrics = new LambdaMetrics(registry);
+    private final Timer timer = metrics.invocationTimer("test");
+
+    @Test
+    public void testOtherThreadsKeepRecordingWhileOneIsMuted() {
+        metrics.withoutRecording(() -> {
+            metrics.record(timer, System.nanoTime());
+            CompletableFuture.runAsync(() -> {
+                metrics.record(timer, System.nanoTime());
+                metrics.error("test", new IllegalStateException());
+            }).join();
+        });
+
+        assertEquals(1, timer.count());
+        assertEquals(1, registry.get("lambda.errors").counter().count());
+    }
+
+    @Test
+    public void testNestedCallKeepsThreadMutedUntilOutermostReturns() {
+        metrics.withoutRecording(() -> {
+            metrics.withoutRecording(() -> metrics.record(timer, System.nanoTime()));
+            metrics.record(timer, System.nanoTime());
+        });
+        metrics.record(timer, System.nanoTime());
+
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void testOtherInstancesAreNotMuted() {
+        LambdaMetrics other = new LambdaMetrics(registry);
+
+        metrics.withoutRecording(() -> other.record(timer, System.nanoTime()));
+
+        assertEquals(1, timer.count());
+    }
+}
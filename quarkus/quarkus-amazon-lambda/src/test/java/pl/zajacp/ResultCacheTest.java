@@ -0,0 +1,103 @@
+package pl.zajacp;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResultCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger computations = new AtomicInteger();
+    private final Function<InputObject, OutputObject> process = input -> {
+        computations.incrementAndGet();
+        return new OutputObject(input.greeting() + " " + input.name());
+    };
+
+    @Test
+    public void testRepeatsAreServedFromCache() {
+        ResultCache cache = new ResultCache(10, Duration.ofMinutes(1), clock::get);
+
+        OutputObject first = cache.get(new InputObject("Stu", "Hello"), process);
+        OutputObject second = cache.get(new InputObject("Stu", "Hello"), process);
+        cache.get(new InputObject("Bill", "Hello"), process);
+
+        assertSame(first, second);
+        assertEquals(2, computations.get());
+        assertEquals(new ResultCache.Stats(1, 2, 2), cache.stats());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+        ResultCache cache = new ResultCache(2, Duration.ofMinutes(1), clock::get);
+
+        cache.get(new InputObject("a", "Hi"), process);
+        cache.get(new InputObject("b", "Hi"), process);
+        cache.get(new InputObject("a", "Hi"), process);
+        cache.get(new InputObject("c", "Hi"), process);
+        cache.get(new InputObject("a", "Hi"), process);
+        cache.get(new InputObject("b", "Hi"), process);
+
+        assertEquals(4, computations.get());
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    public void testExpiredEntryIsRecomputed() {
+        ResultCache cache = new ResultCache(10, Duration.ofSeconds(30), clock::get);
+
+        cache.get(new InputObject("Stu", "Hello"), process);
+        clock.addAndGet(Duration.ofSeconds(29).toNanos());
+        cache.get(new InputObject("Stu", "Hello"), process);
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        cache.get(new InputObject("Stu", "Hello"), process);
+
+        assertEquals(2, computations.get());
+    }
+
+    @Test
+    public void testFailuresAreCached() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ProcessingService service = new ProcessingService();
+        service.metrics = new LambdaMetrics(registry);
+        service.cacheEnabled = true;
+        service.cacheCapacity = 10;
+        service.cacheTtl = Duration.ofMinutes(1);
+        service.init();
+
+        IllegalArgumentException first = assertThrows(IllegalArgumentException.class, () -> service.process(new InputObject("Stuart", "Hello")));
+        IllegalArgumentException second = assertThrows(IllegalArgumentException.class, () -> service.process(new InputObject("Stuart", "Hello")));
+
+        assertNotSame(first, second);
+        assertEquals(ProcessingService.CAN_ONLY_GREET_NICKNAMES, first.getMessage());
+        assertEquals(ProcessingService.CAN_ONLY_GREET_NICKNAMES, second.getMessage());
+        assertEquals(1, registry.get("processing.cache.hits").functionCounter().count());
+        assertEquals(1, registry.get("processing.cache.misses").functionCounter().count());
+        assertEquals(1, registry.get("processing.cache.size").gauge().value());
+    }
+
+    @Test
+    public void testFailureWithoutMessageConstructorIsNotCached() {
+        ResultCache cache = new ResultCache(10, Duration.ofMinutes(1), clock::get);
+        Function<InputObject, OutputObject> failing = input -> {
+            computations.incrementAndGet();
+            throw new UnsupportedOperationException() {
+            };
+        };
+
+        assertThrows(UnsupportedOperationException.class, () -> cache.get(new InputObject("Stu", "Hello"), failing));
+        assertThrows(UnsupportedOperationException.class, () -> cache.get(new InputObject("Stu", "Hello"), failing));
+
+        assertEquals(2, computations.get());
+        assertEquals(new ResultCache.Stats(0, 2, 0), cache.stats());
+    }
+}
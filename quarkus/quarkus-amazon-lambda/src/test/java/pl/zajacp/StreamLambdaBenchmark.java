@@ -0,0 +1,86 @@
+package pl.zajacp;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Byte-at-a-time {@link StreamLambda} as it used to be vs the chunked {@link UpperCaseTranscoder}.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=pl.zajacp.StreamLambdaBenchmark},
+ * or straight from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamLambdaBenchmark {
+
+    @Param({"ascii", "mixed"})
+    public String payload;
+
+    @Param({"4194304"})
+    public int size;
+
+    private byte[] input;
+    private ByteArrayOutputStream output;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StreamLambdaBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setup() {
+        String line = payload.equals("ascii")
+                ? "{\"name\": \"Bill\", \"greeting\": \"hello\"}\n"
+                : "{\"name\": \"Józef\", \"greeting\": \"dzień dobry\"}\n";
+        input = line.repeat(size / line.length() + 1).substring(0, size).getBytes(StandardCharsets.UTF_8);
+        output = new ByteArrayOutputStream(input.length * 2);
+    }
+
+    @Benchmark
+    public int legacy() throws IOException {
+        output.reset();
+        legacyHandleRequest(new ByteArrayInputStream(input), output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int chunked() throws IOException {
+        output.reset();
+        UpperCaseTranscoder.transcode(new ByteArrayInputStream(input), output);
+        return output.size();
+    }
+
+    private static void legacyHandleRequest(InputStream inputStream, OutputStream outputStream) throws IOException {
+        int letter;
+        while ((letter = inputStream.read()) != -1) {
+            int character = Character.toUpperCase(letter);
+            outputStream.write(character);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package pl.zajacp;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamLambdaTest {
+
+    private static final byte[] LINE = "{\"name\": \"Józef\", \"greeting\": \"zażółć gęślą jaźń\"}\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] UPPER_LINE = new String(LINE, StandardCharsets.UTF_8).toUpperCase().getBytes(StandardCharsets.UTF_8);
+
+    private StreamLambda lambda;
+
+    @BeforeEach
+    public void setUp() {
+        lambda = new StreamLambda();
+        lambda.metrics = new LambdaMetrics(new SimpleMeterRegistry());
+        lambda.flushInterval = Duration.ZERO;
+    }
+
+    @Test
+    public void testFlushesOnlyAtTheEndByDefault() throws Exception {
+        FlushCountingOutputStream output = new FlushCountingOutputStream();
+
+        handle(new SyntheticInputStream(1024 * 1024), output);
+
+        assertEquals(List.of(output.written), output.flushedAt);
+    }
+
+    @Test
+    public void testFlushesOnceTheByteThresholdIsReached() throws Exception {
+        lambda.flushBytes = 256 * 1024;
+        FlushCountingOutputStream output = new FlushCountingOutputStream();
+
+        handle(new SyntheticInputStream(4 * 1024 * 1024), output);
+
+        long previous = 0;
+        for (long flushedAt : output.flushedAt.subList(0, output.flushedAt.size() - 1)) {
+            assertTrue(flushedAt - previous >= lambda.flushBytes);
+            assertTrue(flushedAt - previous < lambda.flushBytes + 2 * UpperCaseTranscoder.CHUNK_SIZE);
+            previous = flushedAt;
+        }
+        assertTrue(output.flushedAt.size() > 10);
+        assertEquals(output.written, output.flushedAt.get(output.flushedAt.size() - 1));
+    }
+
+    @Test
+    public void testFlushesOnceTheIntervalHasPassed() throws Exception {
+        lambda.flushInterval = Duration.ofNanos(1);
+        FlushCountingOutputStream output = new FlushCountingOutputStream();
+
+        handle(new SyntheticInputStream(4 * UpperCaseTranscoder.CHUNK_SIZE), output);
+
+        assertTrue(output.flushedAt.size() >= 4);
+    }
+
+    @Test
+    public void testWritesWhatIsAvailableWithoutWaitingForAFullChunk() throws Exception {
+        lambda.flushBytes = 1;
+        FlushCountingOutputStream output = new FlushCountingOutputStream();
+        InputStream trickle = new ByteArrayInputStream(LINE) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 7));
+            }
+        };
+
+        handle(trickle, output);
+
+        assertArrayEquals(UPPER_LINE, output.bytes.toByteArray());
+        assertTrue(output.flushedAt.size() > LINE.length / 7);
+    }
+
+    /**
+     * Pipes {@code stream.large-input.gib} GiB through the handler, run by the {@code large-input} profile with a
+     * 64 MiB heap, so an implementation holding on to its input or output would fail with an OutOfMemoryError.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "stream.large-input.gib", matches = "\\d+")
+    public void testStreamsLargeInputInBoundedMemory() throws Exception {
+        long size = Long.getLong("stream.large-input.gib") * 1024 * 1024 * 1024;
+        lambda.flushBytes = 1024 * 1024;
+        VerifyingOutputStream output = new VerifyingOutputStream();
+        long start = System.nanoTime();
+
+        handle(new SyntheticInputStream(size), output);
+
+        long elapsed = System.nanoTime() - start;
+        long whole = size / LINE.length * LINE.length;
+        assertTrue(output.written >= whole);
+        System.out.printf("%d MiB in %d ms (%.0f MiB/s), first flush after %.2f ms, %d flushes, max heap %d MiB%n",
+                size >> 20, elapsed / 1_000_000, (size >> 20) / (elapsed / 1e9),
+                (output.firstFlush - start) / 1e6, output.flushes, Runtime.getRuntime().maxMemory() >> 20);
+    }
+
+    private void handle(InputStream input, OutputStream output) throws Exception {
+        lambda.init();
+        lambda.handleRequest(input, output, new TestContext("stream-request"));
+    }
+
+    /**
+     * {@link #LINE} repeated up to {@code size} bytes, generated on the fly.
+     */
+    private static final class SyntheticInputStream extends InputStream {
+
+        private final long size;
+        private long position;
+
+        SyntheticInputStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            return position < size ? LINE[(int) (position++ % LINE.length)] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= size) {
+                return -1;
+            }
+            int n = (int) Math.min(len, size - position);
+            for (int i = 0; i < n; ) {
+                int from = (int) (position % LINE.length);
+                int count = Math.min(n - i, LINE.length - from);
+                System.arraycopy(LINE, from, b, off + i, count);
+                i += count;
+                position += count;
+            }
+            return n;
+        }
+    }
+
+    private static final class FlushCountingOutputStream extends OutputStream {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final List<Long> flushedAt = new ArrayList<>();
+        long written;
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes.write(b, off, len);
+            written += len;
+        }
+
+        @Override
+        public void flush() {
+            flushedAt.add(written);
+        }
+    }
+
+    /**
+     * Checks every byte against {@link #UPPER_LINE} and discards it.
+     */
+    private static final class VerifyingOutputStream extends OutputStream {
+
+        long written;
+        long flushes;
+        long firstFlush;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = 0; i < len; i++) {
+                int expected = UPPER_LINE[(int) ((written + i) % UPPER_LINE.length)];
+                if (b[off + i] != expected) {
+                    throw new AssertionError("Unexpected byte at " + (written + i));
+                }
+            }
+            written += len;
+        }
+
+        @Override
+        public void flush() {
+            if (flushes++ == 0) {
+                firstFlush = System.nanoTime();
+            }
+        }
+    }
+}
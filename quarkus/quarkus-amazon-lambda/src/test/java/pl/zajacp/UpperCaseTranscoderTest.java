@@ -0,0 +1,72 @@
+package pl.zajacp;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UpperCaseTranscoderTest {
+
+    @Test
+    public void testAsciiIsUpperCased() throws Exception {
+        String input = "{\"name\": \"Bill\", \"greeting\": \"hello @[`{~\"}\n";
+
+        assertEquals(input.toUpperCase(), transcode(input));
+    }
+
+    @Test
+    public void testMultiByteSequencesAreUpperCasedPerCodePoint() throws Exception {
+        assertEquals("ZAŻÓŁĆ GĘŚLĄ JAŹŃ", transcode("zażółć gęślą jaźń"));
+        assertEquals("ΑΒΓ Ɐ 𐐀 😀", transcode("αβγ ɐ 𐐨 😀"));
+    }
+
+    @Test
+    public void testSequencesSplitAcrossChunksAreCarriedOver() throws Exception {
+        for (int offset = 1; offset <= 3; offset++) {
+            String input = "a".repeat(UpperCaseTranscoder.CHUNK_SIZE - offset) + "ż𐐨z";
+
+            assertEquals(upperCasePerCodePoint(input), transcode(input));
+        }
+    }
+
+    @Test
+    public void testMalformedBytesArePassedThrough() throws Exception {
+        byte[] input = {'a', (byte) 0xC5, 'b', (byte) 0xC0, (byte) 0x80, (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'c', (byte) 0xE2, (byte) 0x82};
+        byte[] expected = {'A', (byte) 0xC5, 'B', (byte) 0xC0, (byte) 0x80, (byte) 0xED, (byte) 0xA0, (byte) 0x80, 'C', (byte) 0xE2, (byte) 0x82};
+
+        assertArrayEquals(expected, transcode(input));
+    }
+
+    @Test
+    public void testWordAndByteUpperCasingAgree() {
+        for (int c = 0; c < 0x80; c++) {
+            int expected = c >= 'a' && c <= 'z' ? c - 0x20 : c;
+            long word = 0x0101010101010101L * c;
+
+            assertEquals(expected, UpperCaseTranscoder.upperCaseAscii(c));
+            assertEquals(0x0101010101010101L * expected, UpperCaseTranscoder.upperCaseAscii(word));
+        }
+    }
+
+    private static String transcode(String input) throws IOException {
+        return new String(transcode(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] transcode(byte[] input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        UpperCaseTranscoder.transcode(new ByteArrayInputStream(input), output);
+        return output.toByteArray();
+    }
+
+    private static String upperCasePerCodePoint(String input) {
+        return input.codePoints()
+                .map(Character::toUpperCase)
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+    }
+}